@@ -0,0 +1,26 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  // Accepts the regular JMH command line and always adds the GC profiler, so every run reports the allocation rate
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build();
+    new Runner(options).run();
+  }
+
+}
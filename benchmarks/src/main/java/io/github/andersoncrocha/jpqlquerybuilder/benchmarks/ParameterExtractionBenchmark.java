@@ -0,0 +1,38 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks;
+
+import io.github.andersoncrocha.jpqlquerybuilder.utils.QueryUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParameterExtractionBenchmark {
+
+  @Param({
+    "order.client = :client",
+    "item.quantity BETWEEN :minimumQuantity AND :maximumQuantity",
+    "o.status = 'PAID' AND o.total > :minimumTotal OR o.client.name LIKE :clientName AND o.seller = :seller"
+  })
+  private String clause;
+
+  @Benchmark
+  public List<String> extractParameterName() {
+    return QueryUtils.extractParameterName(clause);
+  }
+
+}
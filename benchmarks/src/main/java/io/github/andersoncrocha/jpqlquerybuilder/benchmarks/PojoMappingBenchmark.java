@@ -0,0 +1,66 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks;
+
+import io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support.Tuples;
+import io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support.WidePojoClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.persistence.Tuple;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PojoMappingBenchmark {
+
+  private static final int ROWS = 1000;
+
+  @Param({"10", "100", "1000"})
+  private int properties;
+
+  private Tuple[] resultSet;
+  private Function<Tuple, ?> reflectiveMapper;
+  private Function<Tuple, ?> generatedMapper;
+
+  @Setup
+  public void setUp() {
+    WidePojoClass pojoClass = WidePojoClass.generate(properties);
+    this.resultSet = Tuples.wideResultSet(pojoClass, ROWS);
+    this.reflectiveMapper = pojoClass.mapper("from");
+    this.generatedMapper = pojoClass.mapper("fromGenerated");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void reflectiveMapper(Blackhole blackhole) {
+    this.mapResultSet(reflectiveMapper, blackhole);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void generatedMapper(Blackhole blackhole) {
+    this.mapResultSet(generatedMapper, blackhole);
+  }
+
+  private void mapResultSet(Function<Tuple, ?> mapper, Blackhole blackhole) {
+    for (Tuple tuple : resultSet) {
+      blackhole.consume(mapper.apply(tuple));
+    }
+  }
+
+}
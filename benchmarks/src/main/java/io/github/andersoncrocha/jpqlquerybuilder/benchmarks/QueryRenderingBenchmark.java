@@ -0,0 +1,55 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks;
+
+import io.github.andersoncrocha.jpqlquerybuilder.QueryBuilder;
+import io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support.Queries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueryRenderingBenchmark {
+
+  private QueryBuilder smallQuery;
+  private QueryBuilder largeQuery;
+
+  @Setup
+  public void setUp() {
+    this.smallQuery = Queries.smallQuery();
+    this.largeQuery = Queries.largeQuery();
+  }
+
+  @Benchmark
+  public String renderSmallQuery() {
+    return smallQuery.getQueryString();
+  }
+
+  @Benchmark
+  public String renderLargeQuery() {
+    return largeQuery.getQueryString();
+  }
+
+  @Benchmark
+  public String buildAndRenderSmallQuery() {
+    return Queries.smallQuery().getQueryString();
+  }
+
+  @Benchmark
+  public String buildAndRenderLargeQuery() {
+    return Queries.largeQuery().getQueryString();
+  }
+
+}
@@ -0,0 +1,59 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support;
+
+import io.github.andersoncrocha.jpqlquerybuilder.QueryBuilder;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.SortDirection;
+
+import java.util.Arrays;
+
+public class Queries {
+
+  private Queries() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  public static QueryBuilder smallQuery() {
+    return QueryBuilder.newQuery()
+      .from("Order", "order")
+      .where("order.client.id = :clientId", 10L)
+      .orderBy("order.createdAt", SortDirection.DESC);
+  }
+
+  public static QueryBuilder largeQuery() {
+    QueryBuilder query = QueryBuilder.newQuery()
+      .select("order.id AS id, order.createdAt AS createdAt, client.name AS clientName, seller.name AS sellerName")
+      .select("SUM(item.total) AS total, COUNT(item.id) AS items")
+      .from(
+        subQuery -> subQuery
+          .from("Order", "o")
+          .where("o.status IN :statuses", Arrays.asList("OPEN", "PAID"))
+          .where("o.createdAt >= :since", "2020-01-01"),
+        "order"
+      )
+      .join("order.client client")
+      .leftJoin("order.seller seller")
+      .leftJoin("client.address address")
+      .join("order.items item")
+      .leftJoin("item.product product")
+      .leftJoin("product.category category")
+      .rightJoin("order.payments payment")
+      .leftJoin("payment.method method");
+
+    return query
+      .where("client.active = true")
+      .openParentheses()
+      .where("address.city = :city", "Porto Alegre")
+      .or()
+      .openParentheses()
+      .where("address.state = :state", "RS")
+      .where("address.country = :country", "BR")
+      .closeParentheses()
+      .closeParentheses()
+      .where("category.name LIKE :category", "books%")
+      .where("method.type <> :excludedMethod", "VOUCHER")
+      .where("item.quantity BETWEEN :minimumQuantity AND :maximumQuantity", 1, 100)
+      .groupBy("order.id, order.createdAt, client.name, seller.name")
+      .orderBy("order.createdAt", SortDirection.DESC)
+      .orderBy("order.id", SortDirection.DESC);
+  }
+
+}
@@ -0,0 +1,95 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support;
+
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class SyntheticTuple implements Tuple {
+
+  private final List<TupleElement<?>> elements;
+  private final Map<String, Integer> aliasToIndex;
+  private final Object[] values;
+
+  public SyntheticTuple(List<TupleElement<?>> elements, Map<String, Integer> aliasToIndex, Object[] values) {
+    this.elements = elements;
+    this.aliasToIndex = aliasToIndex;
+    this.values = values;
+  }
+
+  public static List<TupleElement<?>> elements(String[] aliases, Class<?>[] types) {
+    List<TupleElement<?>> elements = new ArrayList<>(aliases.length);
+    for (int index = 0; index < aliases.length; index++) {
+      elements.add(new SyntheticTupleElement<>(aliases[index], types[index]));
+    }
+    return Collections.unmodifiableList(elements);
+  }
+
+  @Override
+  public <X> X get(TupleElement<X> tupleElement) {
+    return this.get(tupleElement.getAlias(), tupleElement.getJavaType());
+  }
+
+  @Override
+  public <X> X get(String alias, Class<X> type) {
+    return type.cast(this.get(alias));
+  }
+
+  @Override
+  public Object get(String alias) {
+    Integer index = this.aliasToIndex.get(alias.toLowerCase(Locale.ROOT));
+    if (index == null) {
+      throw new IllegalArgumentException("Unknown alias [" + alias + "]");
+    }
+    return this.values[index];
+  }
+
+  @Override
+  public <X> X get(int index, Class<X> type) {
+    return type.cast(this.get(index));
+  }
+
+  @Override
+  public Object get(int index) {
+    if (index < 0 || index >= this.values.length) {
+      throw new IllegalArgumentException("Given index [" + index + "] was outside the range of result tuple size");
+    }
+    return this.values[index];
+  }
+
+  @Override
+  public Object[] toArray() {
+    return this.values.clone();
+  }
+
+  @Override
+  public List<TupleElement<?>> getElements() {
+    return this.elements;
+  }
+
+  private static class SyntheticTupleElement<X> implements TupleElement<X> {
+
+    private final String alias;
+    private final Class<? extends X> javaType;
+
+    SyntheticTupleElement(String alias, Class<? extends X> javaType) {
+      this.alias = alias;
+      this.javaType = javaType;
+    }
+
+    @Override
+    public Class<? extends X> getJavaType() {
+      return javaType;
+    }
+
+    @Override
+    public String getAlias() {
+      return alias;
+    }
+
+  }
+
+}
@@ -0,0 +1,33 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support;
+
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class Tuples {
+
+  private Tuples() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  // Every column is mapped to a property of the POJO, so wider tuples mean more setters to call per row
+  public static Tuple[] wideResultSet(WidePojoClass pojoClass, int rows) {
+    String[] aliases = pojoClass.getAliases();
+    Map<String, Integer> aliasToIndex = new HashMap<>();
+    for (int index = 0; index < aliases.length; index++) {
+      aliasToIndex.put(aliases[index].toLowerCase(Locale.ROOT), index);
+    }
+
+    List<TupleElement<?>> elements = SyntheticTuple.elements(aliases, pojoClass.getColumnTypes());
+    Tuple[] resultSet = new Tuple[rows];
+    for (int row = 0; row < rows; row++) {
+      resultSet[row] = new SyntheticTuple(elements, aliasToIndex, pojoClass.sampleValues(row));
+    }
+
+    return resultSet;
+  }
+
+}
@@ -0,0 +1,176 @@
+package io.github.andersoncrocha.jpqlquerybuilder.benchmarks.support;
+
+import javax.persistence.Tuple;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+public class WidePojoClass {
+
+  private static final String PACKAGE_NAME = "io.github.andersoncrocha.jpqlquerybuilder.benchmarks.generated";
+  private static final String LIBRARY_PACKAGE = "io.github.andersoncrocha.jpqlquerybuilder.";
+  private static final String BENCHMARKS_PACKAGE = "io.github.andersoncrocha.jpqlquerybuilder.benchmarks.";
+  private static final String MAPPER_CLASS = "io.github.andersoncrocha.jpqlquerybuilder.mapper.AliasToPojoResultMapper";
+  private static final String TUPLE_PROPERTY = "io.github.andersoncrocha.jpqlquerybuilder.annotations.TupleProperty";
+  private static final int ALIASED_PROPERTY_INTERVAL = 10;
+
+  // The properties cycle through these types, so every width maps boxed, primitive and temporal setters alike
+  private static final Class<?>[] PROPERTY_TYPES = {
+    Long.class, String.class, Integer.class, int.class, long.class, BigDecimal.class, LocalDate.class, Boolean.class
+  };
+
+  private final Class<?> pojoClass;
+  private final String[] aliases;
+  private final Class<?>[] columnTypes;
+
+  private WidePojoClass(Class<?> pojoClass, String[] aliases, Class<?>[] columnTypes) {
+    this.pojoClass = pojoClass;
+    this.aliases = aliases;
+    this.columnTypes = columnTypes;
+  }
+
+  // Compiles a POJO with one mapped property per column. The POJO and the library are loaded by the same class
+  // loader, so the generated accessors link through LambdaMetafactory as they do for the DTOs of an application
+  public static WidePojoClass generate(int properties) {
+    if (properties <= 0) {
+      throw new IllegalArgumentException("A wide POJO needs at least one property");
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("Generating the wide POJOs needs a JDK, but the benchmarks run on a JRE");
+    }
+
+    String simpleName = "WidePojo" + properties;
+    String[] aliases = new String[properties];
+    Class<?>[] columnTypes = new Class<?>[properties];
+    StringBuilder source = new StringBuilder("package ").append(PACKAGE_NAME).append(";\n\n")
+      .append("public class ").append(simpleName).append(" {\n");
+
+    for (int index = 0; index < properties; index++) {
+      Class<?> type = PROPERTY_TYPES[index % PROPERTY_TYPES.length];
+      String property = "property" + index;
+      boolean aliased = index % ALIASED_PROPERTY_INTERVAL == 1;
+      aliases[index] = aliased ? "column_" + index : property;
+      columnTypes[index] = type == int.class ? Integer.class : type == long.class ? Long.class : type;
+
+      if (aliased) {
+        source.append("  @").append(TUPLE_PROPERTY).append("(\"").append(aliases[index]).append("\")\n");
+      }
+      source.append("  private ").append(type.getName()).append(' ').append(property).append(";\n")
+        .append("  public void setProperty").append(index).append('(').append(type.getName()).append(" value) {\n")
+        .append("    this.").append(property).append(" = value;\n")
+        .append("  }\n");
+    }
+    source.append("}\n");
+
+    try {
+      Path sourceDirectory = Files.createTempDirectory("wide-pojos");
+      Path sourceFile = sourceDirectory.resolve(simpleName + ".java");
+      Files.write(sourceFile, source.toString().getBytes(StandardCharsets.UTF_8));
+
+      URL libraryLocation = Class.forName(MAPPER_CLASS).getProtectionDomain().getCodeSource().getLocation();
+      String libraryClasspath = Paths.get(libraryLocation.toURI()).toString();
+      ByteArrayOutputStream errors = new ByteArrayOutputStream();
+      int status = compiler.run(
+        null, null, errors, "-classpath", libraryClasspath, "-d", sourceDirectory.toString(), sourceFile.toString()
+      );
+      if (status != 0) {
+        throw new IllegalStateException("Cannot compile " + simpleName + ": " + errors);
+      }
+
+      ClassLoader classLoader = new LibraryFirstClassLoader(
+        new URL[] {sourceDirectory.toUri().toURL(), libraryLocation}, WidePojoClass.class.getClassLoader()
+      );
+      return new WidePojoClass(Class.forName(PACKAGE_NAME + "." + simpleName, true, classLoader), aliases, columnTypes);
+    } catch (IOException | ReflectiveOperationException | URISyntaxException e) {
+      throw new IllegalStateException("Cannot generate " + simpleName, e);
+    }
+  }
+
+  public String[] getAliases() {
+    return aliases;
+  }
+
+  public Class<?>[] getColumnTypes() {
+    return columnTypes;
+  }
+
+  public Object[] sampleValues(long row) {
+    Object[] values = new Object[aliases.length];
+    for (int index = 0; index < values.length; index++) {
+      values[index] = sampleValue(columnTypes[index], row + index);
+    }
+    return values;
+  }
+
+  // Resolves the mapper of the AliasToPojoResultMapper loaded with the POJO, such as "from" or "fromGenerated"
+  @SuppressWarnings("unchecked")
+  public Function<Tuple, ?> mapper(String factoryMethod) {
+    try {
+      Class<?> mapperClass = Class.forName(MAPPER_CLASS, true, pojoClass.getClassLoader());
+      return (Function<Tuple, ?>) mapperClass.getMethod(factoryMethod, Class.class).invoke(null, pojoClass);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot resolve the " + factoryMethod + " mapper of " + pojoClass.getName(), e);
+    }
+  }
+
+  private static Object sampleValue(Class<?> type, long seed) {
+    if (type == Long.class) {
+      return seed;
+    }
+    if (type == String.class) {
+      return "Value " + seed;
+    }
+    if (type == Integer.class) {
+      return (int) (seed % 1000);
+    }
+    if (type == BigDecimal.class) {
+      return BigDecimal.valueOf(seed, 2);
+    }
+    if (type == LocalDate.class) {
+      return LocalDate.ofEpochDay(seed % 20000);
+    }
+    return seed % 2 == 0;
+  }
+
+  // Loads the library next to the POJO instead of asking the parent first. Everything else, javax.persistence
+  // included, still comes from the parent, so the mappers accept the tuples built by the benchmarks
+  private static class LibraryFirstClassLoader extends URLClassLoader {
+
+    LibraryFirstClassLoader(URL[] urls, ClassLoader parent) {
+      super(urls, parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!name.startsWith(LIBRARY_PACKAGE) || name.startsWith(BENCHMARKS_PACKAGE)) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (this.getClassLoadingLock(name)) {
+        Class<?> loadedClass = this.findLoadedClass(name);
+        if (loadedClass == null) {
+          loadedClass = this.findClass(name);
+        }
+        if (resolve) {
+          this.resolveClass(loadedClass);
+        }
+        return loadedClass;
+      }
+    }
+
+  }
+
+}
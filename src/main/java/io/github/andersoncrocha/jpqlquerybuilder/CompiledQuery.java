@@ -0,0 +1,216 @@
+package io.github.andersoncrocha.jpqlquerybuilder;
+
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.NativeResultMapper;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.QueryUtils;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
+import javax.persistence.LockModeType;
+import javax.persistence.NoResultException;
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class CompiledQuery {
+
+  private final String queryString;
+  private final boolean nativeQuery;
+  private final int firstResult;
+  private final int maxResults;
+  private final Map<String, Object> parameters;
+  private final Map<String, Object> hints;
+  private final FlushModeType flushMode;
+  private final LockModeType lockMode;
+  private final int inListPaddingLimit;
+  private final int inListChunkSize;
+  private final Set<String> parameterNames;
+
+  CompiledQuery(
+    String queryString, boolean nativeQuery, int firstResult, int maxResults,
+    Map<String, Object> parameters, Map<String, Object> hints, FlushModeType flushMode, LockModeType lockMode,
+    int inListPaddingLimit, int inListChunkSize
+  ) {
+    this.queryString = queryString;
+    this.nativeQuery = nativeQuery;
+    this.firstResult = firstResult;
+    this.maxResults = maxResults;
+    this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+    this.hints = Collections.unmodifiableMap(new LinkedHashMap<>(hints));
+    this.flushMode = flushMode;
+    this.lockMode = lockMode;
+    this.inListPaddingLimit = inListPaddingLimit;
+    this.inListChunkSize = inListChunkSize;
+    this.parameterNames = Collections.unmodifiableSet(this.resolveParameterNames());
+  }
+
+  private Set<String> resolveParameterNames() {
+    Set<String> names = new LinkedHashSet<>();
+    QueryUtils.extractParameterName(queryString)
+      .stream()
+      .filter(StringUtils::isNotBlank)
+      .forEach(names::add);
+    names.addAll(parameters.keySet());
+    return names;
+  }
+
+  public String getQueryString() {
+    return queryString;
+  }
+
+  public boolean isNativeQuery() {
+    return nativeQuery;
+  }
+
+  public Set<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  public Map<String, Object> getParameters() {
+    return parameters;
+  }
+
+  public Binding bind() {
+    return new Binding(this.parameters);
+  }
+
+  public Binding bind(Map<String, Object> parameters) {
+    Objects.requireNonNull(parameters, "The parameters to bind cannot be null");
+    Binding binding = this.bind();
+    parameters.forEach(binding::parameter);
+    return binding;
+  }
+
+  @Override
+  public String toString() {
+    return queryString;
+  }
+
+  public final class Binding {
+
+    private final Map<String, Object> values;
+
+    private Binding(Map<String, Object> defaults) {
+      this.values = new HashMap<>(defaults);
+    }
+
+    public Binding parameter(String name, Object value) {
+      if (!parameterNames.contains(name)) {
+        String exceptionMessage = "Parameter '%s' is not declared in the compiled query";
+        throw new IllegalArgumentException(String.format(exceptionMessage, name));
+      }
+      this.values.put(name, value);
+      return this;
+    }
+
+    public Map<String, Object> getParameters() {
+      return Collections.unmodifiableMap(values);
+    }
+
+    public <T> TypedQuery<T> getQuery(EntityManager entityManager, Class<T> resultClass) {
+      Objects.requireNonNull(entityManager, "It is not allowed to execute a query without inject a entity manager");
+      this.validateInListSizes();
+
+      TypedQuery<T> query = entityManager.createQuery(queryString, resultClass)
+        .setFirstResult(firstResult)
+        .setMaxResults(maxResults);
+      QueryUtils.setParameters(query, this.values, inListPaddingLimit);
+      hints.forEach(query::setHint);
+      if (Objects.nonNull(flushMode)) {
+        query.setFlushMode(flushMode);
+      }
+      if (Objects.nonNull(lockMode)) {
+        query.setLockMode(lockMode);
+      }
+      return query;
+    }
+
+    public Query getNativeQuery(EntityManager entityManager) {
+      Objects.requireNonNull(entityManager, "It is not allowed to execute a query without inject a entity manager");
+      if (Objects.nonNull(lockMode)) {
+        throw new IllegalStateException("Lock modes can only be applied to JPQL queries");
+      }
+      this.validateInListSizes();
+
+      Query query = entityManager.createNativeQuery(queryString, Tuple.class)
+        .setFirstResult(firstResult)
+        .setMaxResults(maxResults);
+      QueryUtils.setParameters(query, this.values, inListPaddingLimit);
+      hints.forEach(query::setHint);
+      if (Objects.nonNull(flushMode)) {
+        query.setFlushMode(flushMode);
+      }
+      return query;
+    }
+
+    // A compiled query is a single statement, so a list over the chunk size is rejected instead of being split
+    private void validateInListSizes() {
+      if (inListChunkSize <= 0) {
+        return;
+      }
+      this.values.forEach((name, value) -> {
+        if (value instanceof Collection && ((Collection<?>) value).size() > inListChunkSize) {
+          String exceptionMessage =
+            "The IN list '%s' exceeds %d elements and compiled queries cannot split it into chunks";
+          throw new IllegalStateException(String.format(exceptionMessage, name, inListChunkSize));
+        }
+      });
+    }
+
+    public <T> Optional<T> getSingleResult(EntityManager entityManager, Class<T> resultType) {
+      try {
+        if (nativeQuery) {
+          Query query = this.getNativeQuery(entityManager);
+          return Optional.ofNullable(QueryResults.readNativeSingleResult(query, resultType));
+        }
+
+        return Optional.ofNullable(this.getQuery(entityManager, resultType).getSingleResult());
+      } catch (NoResultException exception) {
+        return Optional.empty();
+      }
+    }
+
+    public Optional<Tuple> getSingleResult(EntityManager entityManager) {
+      return this.getSingleResult(entityManager, Tuple.class);
+    }
+
+    public <T> List<T> getResultList(EntityManager entityManager, Class<T> resultType) {
+      if (nativeQuery) {
+        return QueryResults.readRows(this.getNativeQuery(entityManager), NativeResultMapper.of(resultType));
+      }
+      return this.getQuery(entityManager, resultType).getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Tuple> getResultList(EntityManager entityManager) {
+      return nativeQuery
+        ? (List<Tuple>) this.getNativeQuery(entityManager).getResultList()
+        : this.getResultList(entityManager, Tuple.class);
+    }
+
+    public <T> List<T> getResultList(EntityManager entityManager, Function<Tuple, T> mapper) {
+      return QueryResults.mapTuples(this.getResultList(entityManager), mapper);
+    }
+
+    public <T> List<T> getResultListToPojo(EntityManager entityManager, Class<T> resultType) {
+      return this.getResultList(entityManager, QueryResults.pojoMapper(resultType, nativeQuery));
+    }
+
+    public List<Tuple> execute(EntityManager entityManager) {
+      return this.getResultList(entityManager);
+    }
+
+  }
+
+}
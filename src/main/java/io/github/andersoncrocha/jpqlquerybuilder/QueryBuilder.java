@@ -1,43 +1,101 @@
 package io.github.andersoncrocha.jpqlquerybuilder;
 
-import io.github.andersoncrocha.jpqlquerybuilder.mapper.AliasToPojoResultMapper;
+import io.github.andersoncrocha.jpqlquerybuilder.async.AsyncQueryExecutor;
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryResultCache;
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShapeCache;
+import io.github.andersoncrocha.jpqlquerybuilder.expression.Expression;
+import io.github.andersoncrocha.jpqlquerybuilder.expression.ExpressionContext;
+import io.github.andersoncrocha.jpqlquerybuilder.expression.Predicate;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.ColumnConverters;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.ConstructorExpression;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.NativeResultMapper;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.PojoMappingPlan;
+import io.github.andersoncrocha.jpqlquerybuilder.metrics.QueryExecutionEvent;
+import io.github.andersoncrocha.jpqlquerybuilder.metrics.QueryListener;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.Delete;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.From;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.GroupBy;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.IdRestriction;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.JoinGroup;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.JoinGroup.Join;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.OrderBy;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.QueryOperation;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.Seek;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.Select;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.Statement;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.Update;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.WhereGroup;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.WhereGroup.Where;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.JoinType;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.SortDirection;
+import io.github.andersoncrocha.jpqlquerybuilder.pagination.KeysetPage;
+import io.github.andersoncrocha.jpqlquerybuilder.pagination.Page;
+import io.github.andersoncrocha.jpqlquerybuilder.pagination.SeekToken;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.CollectionUtils;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.QueryUtils;
 import io.github.andersoncrocha.jpqlquerybuilder.utils.StringUtils;
 
+import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.FlushModeType;
+import javax.persistence.LockModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.PersistenceUnitUtil;
 import javax.persistence.Query;
 import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Metamodel;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class QueryBuilder {
 
   private static final Object EMPTY = new Object();
+  private static final String DISTINCT = "DISTINCT ";
+  private static final Pattern AGGREGATE_FUNCTION =
+    Pattern.compile("\\b(COUNT|SUM|AVG|MIN|MAX)\\s*\\(", Pattern.CASE_INSENSITIVE);
+  private static final String DEFAULT_ID_ATTRIBUTE = "id";
+  private static final String LIST_RESULT = "list";
+  private static final String SINGLE_RESULT = "single";
+  private static final String POJO_RESULT = "pojo";
+  private static final Duration MAXIMUM_TIMEOUT = Duration.ofMillis(Integer.MAX_VALUE);
+  private static final int INITIAL_RENDER_BUFFER_CAPACITY = 512;
+  private static final int MAXIMUM_RETAINED_RENDER_BUFFER_CAPACITY = 16 * 1024;
+  private static final ThreadLocal<StringBuilder> RENDER_BUFFER =
+    ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_RENDER_BUFFER_CAPACITY));
 
   private final EntityManager entityManager;
 
   private Select select;
   private From from;
-  private final JoinGroup joinGroup;
-  private final WhereGroup whereGroup;
+  private JoinGroup joinGroup;
+  private WhereGroup whereGroup;
   private GroupBy groupBy;
   private OrderBy orderBy;
 
@@ -46,6 +104,22 @@ public class QueryBuilder {
 
   private QueryOperator lastOperator;
   private boolean nativeQuery;
+  private final Map<String, Object> hints = new LinkedHashMap<>();
+  private QueryShapeCache shapeCache;
+  private SeekToken seekToken;
+  private boolean inListPadding;
+  private int inListChunkSize;
+  private QueryListener listener;
+  private QueryResultCache resultCache;
+  private Duration resultCacheTimeToLive;
+  private String[] resultCacheTags;
+  private int expressionParameters;
+  private String fetchJoinPagingIdAttribute;
+  private IdRestriction idRestriction;
+  private FlushModeType flushMode;
+  private LockModeType lockMode;
+  private boolean clearAfterEachBatch;
+  private Statement statement;
 
   private QueryBuilder() {
     this(null);
@@ -75,6 +149,31 @@ public class QueryBuilder {
     return this;
   }
 
+  public QueryBuilder select(Expression... expressions) {
+    List<String> fields = new ArrayList<>(expressions.length);
+    for (Expression expression : expressions) {
+      ExpressionContext context = this.render(expression);
+      fields.add(context.getQuery().toString());
+      this.whereGroup.addParameters(context.getParameters());
+    }
+
+    if (Objects.isNull(this.select)) {
+      this.select = new Select(fields);
+    } else {
+      this.select.addSelect(fields);
+    }
+    this.lastOperator = QueryOperator.SELECT;
+    return this;
+  }
+
+  public QueryBuilder selectFor(Class<?> resultType, String rootAlias) {
+    return this.select(PojoMappingPlan.of(resultType).getSelection(rootAlias));
+  }
+
+  public QueryBuilder selectNew(Class<?> resultType, String rootAlias) {
+    return this.select(ConstructorExpression.of(resultType).render(rootAlias));
+  }
+
   public QueryBuilder from(Class<?> fromClass) {
     String simpleNameClass = fromClass.getSimpleName();
     String alias = StringUtils.uncapitalize(simpleNameClass);
@@ -82,13 +181,17 @@ public class QueryBuilder {
   }
 
   public QueryBuilder from(UnaryOperator<QueryBuilder> subQueryFunction, String alias) {
-    QueryBuilder queryBuilderSubQuery = subQueryFunction.apply(new QueryBuilder(entityManager));
+    QueryBuilder subQuery = new QueryBuilder(entityManager);
+    // The subquery continues the expression parameter names of this query, so the names cannot collide
+    subQuery.expressionParameters = this.expressionParameters;
+    QueryBuilder queryBuilderSubQuery = subQueryFunction.apply(subQuery);
     return this.from(queryBuilderSubQuery, alias);
   }
 
   public QueryBuilder from(QueryBuilder subQuery, String alias) {
-    Map<String, Object> subQueryParameters = subQuery.whereGroup.getParameters();
-    this.whereGroup.addParameters(subQueryParameters);
+    Map<String, Object> subQueryParameters = subQuery.whereGroup.getParameterView();
+    this.whereGroup.mergeParameters(subQueryParameters);
+    this.expressionParameters = Math.max(this.expressionParameters, subQuery.expressionParameters);
     this.from = new From("(" + subQuery.getQueryString() + ")", alias);
     this.lastOperator = QueryOperator.FROM;
     return this;
@@ -108,6 +211,64 @@ public class QueryBuilder {
     return this.from(fromClass.getSimpleName(), alias);
   }
 
+  public QueryBuilder update(Class<?> entityClass) {
+    return this.update(entityClass, StringUtils.uncapitalize(entityClass.getSimpleName()));
+  }
+
+  public QueryBuilder update(Class<?> entityClass, String alias) {
+    return this.update(entityClass.getSimpleName(), alias);
+  }
+
+  public QueryBuilder update(String table, String alias) {
+    this.from = new From(table, alias);
+    this.statement = new Update(table, alias);
+    this.lastOperator = QueryOperator.UPDATE;
+    return this;
+  }
+
+  public QueryBuilder set(String assignment, Object... parameters) {
+    if (!(statement instanceof Update)) {
+      throw new IllegalStateException("set() cannot be called before update() method");
+    }
+
+    List<String> parameterNames = QueryUtils.extractParameterName(assignment);
+    if (parameters.length > parameterNames.size()) {
+      String exceptionMessage = "The assignment '%s' declares %d parameters, but %d values were given";
+      throw new IllegalArgumentException(
+        String.format(exceptionMessage, assignment, parameterNames.size(), parameters.length)
+      );
+    }
+
+    ((Update) statement).set(assignment);
+    for (int index = 0; index < parameters.length; index++) {
+      this.whereGroup.addParameter(parameterNames.get(index), parameters[index]);
+    }
+    return this;
+  }
+
+  public QueryBuilder delete(Class<?> entityClass) {
+    return this.delete(entityClass, StringUtils.uncapitalize(entityClass.getSimpleName()));
+  }
+
+  public QueryBuilder delete(Class<?> entityClass, String alias) {
+    return this.delete(entityClass.getSimpleName(), alias);
+  }
+
+  public QueryBuilder delete(String table, String alias) {
+    this.from = new From(table, alias);
+    this.statement = new Delete(table, alias);
+    this.lastOperator = QueryOperator.DELETE;
+    return this;
+  }
+
+  public QueryBuilder idAttribute(String idAttribute) {
+    if (Objects.isNull(statement)) {
+      throw new IllegalStateException("idAttribute() cannot be called before update() or delete() method");
+    }
+    this.statement.setIdAttribute(idAttribute);
+    return this;
+  }
+
   private QueryBuilder join(String target, JoinType type) {
     Join join = new Join(target, type);
     this.joinGroup.join(join);
@@ -215,15 +376,34 @@ public class QueryBuilder {
   }
 
   public QueryBuilder where(String clause, Object... parameters) {
-    QueryOperator type = QueryOperator.NONE;
+    return this.where(clause, this.nextWhereType(), parameters);
+  }
+
+  public QueryBuilder where(Predicate predicate) {
+    Objects.requireNonNull(predicate, "The predicate cannot be null");
+    ExpressionContext context = this.render(predicate);
+    Where where = new Where(context.getQuery().toString(), this.nextWhereType());
+    this.whereGroup.where(where, context.getParameters());
+    this.lastOperator = QueryOperator.AND;
+    return this;
+  }
+
+  public QueryBuilder whereIf(Predicate predicate, boolean shouldAddWhere) {
+    return shouldAddWhere ? this.where(predicate) : this;
+  }
 
+  private QueryOperator nextWhereType() {
     if (lastOperator == QueryOperator.OR) {
-      type = QueryOperator.OR;
-    } else if (lastOperator != QueryOperator.OPEN_PARENTHESES) {
-      type = QueryOperator.AND;
+      return QueryOperator.OR;
     }
+    return lastOperator != QueryOperator.OPEN_PARENTHESES ? QueryOperator.AND : QueryOperator.NONE;
+  }
 
-    return this.where(clause, type, parameters);
+  private ExpressionContext render(Expression expression) {
+    ExpressionContext context = new ExpressionContext(new StringBuilder(), expressionParameters);
+    expression.appendTo(context);
+    this.expressionParameters = context.getNextParameter();
+    return context;
   }
 
   public QueryBuilder whereIf(String clause, Object parameter, boolean shouldAddWhere) {
@@ -291,11 +471,130 @@ public class QueryBuilder {
     return this;
   }
 
+  public QueryBuilder fetchSize(int fetchSize) {
+    if (fetchSize <= 0) {
+      throw new IllegalArgumentException("The fetch size must be greater than zero");
+    }
+    this.hints.put(QueryHints.FETCH_SIZE, fetchSize);
+    return this;
+  }
+
+  public QueryBuilder timeout(Duration timeout) {
+    Objects.requireNonNull(timeout, "The timeout cannot be null");
+    if (timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("The timeout must be greater than zero");
+    }
+    if (timeout.compareTo(MAXIMUM_TIMEOUT) > 0) {
+      String exceptionMessage = "The timeout cannot be longer than %d milliseconds";
+      throw new IllegalArgumentException(String.format(exceptionMessage, MAXIMUM_TIMEOUT.toMillis()));
+    }
+    // Rounded up to whole milliseconds: providers read a timeout of 0 as no timeout at all
+    long timeoutMillis = timeout.toMillis() + (timeout.minusMillis(timeout.toMillis()).isZero() ? 0 : 1);
+    this.hints.put(QueryHints.TIMEOUT, (int) timeoutMillis);
+    return this;
+  }
+
+  public QueryBuilder hint(String name, Object value) {
+    Objects.requireNonNull(name, "The hint name cannot be null");
+    this.hints.put(name, value);
+    return this;
+  }
+
+  // Hints set before the preset are overridden by it, hints set after the preset override it
+  public QueryBuilder hints(String presetName) {
+    this.hints.putAll(QueryHints.getPreset(presetName));
+    return this;
+  }
+
+  public QueryBuilder lockMode(LockModeType lockMode) {
+    this.lockMode = Objects.requireNonNull(lockMode, "The lock mode cannot be null");
+    return this;
+  }
+
+  public QueryBuilder seekAfter(Object... lastValues) {
+    return this.seekAfter(SeekToken.of(lastValues));
+  }
+
+  public QueryBuilder seekAfter(SeekToken seekToken) {
+    Objects.requireNonNull(seekToken, "The seek token cannot be null");
+    Object[] values = seekToken.getValues();
+    for (int index = 0; index < values.length; index++) {
+      this.whereGroup.addParameter(Seek.parameterName(index), values[index]);
+    }
+    this.seekToken = seekToken;
+    return this;
+  }
+
+  public QueryBuilder fetchJoinPaging() {
+    return this.fetchJoinPaging(DEFAULT_ID_ATTRIBUTE);
+  }
+
+  public QueryBuilder fetchJoinPaging(String idAttribute) {
+    Objects.requireNonNull(idAttribute, "The id attribute cannot be null");
+    this.fetchJoinPagingIdAttribute = idAttribute;
+    return this;
+  }
+
   public QueryBuilder nativeQuery() {
     this.nativeQuery = true;
     return this;
   }
 
+  // Entities are loaded without the snapshots used by dirty checking, and pending changes are not flushed before the
+  // query runs
+  public QueryBuilder readOnly() {
+    this.hints.put(QueryHints.READ_ONLY, true);
+    this.flushMode = FlushModeType.COMMIT;
+    return this;
+  }
+
+  // forEachBatch clears the persistence context once each batch is consumed, so a long export does not keep every
+  // row it has read. Entities loaded before the query are detached as well
+  public QueryBuilder clearAfterEachBatch() {
+    this.clearAfterEachBatch = true;
+    return this;
+  }
+
+  public QueryBuilder inListPadding() {
+    this.inListPadding = true;
+    return this;
+  }
+
+  public QueryBuilder inListChunkSize(int inListChunkSize) {
+    if (inListChunkSize <= 0) {
+      throw new IllegalArgumentException("The IN list chunk size must be greater than zero");
+    }
+    this.inListChunkSize = inListChunkSize;
+    return this;
+  }
+
+  public QueryBuilder listener(QueryListener listener) {
+    Objects.requireNonNull(listener, "The listener cannot be null");
+    this.listener = Objects.isNull(this.listener) ? listener : this.listener.andThen(listener);
+    return this;
+  }
+
+  public QueryBuilder cached(Duration timeToLive, String... tags) {
+    return this.cached(QueryResultCache.getDefault(), timeToLive, tags);
+  }
+
+  public QueryBuilder cached(QueryResultCache resultCache, Duration timeToLive, String... tags) {
+    Objects.requireNonNull(resultCache, "The result cache cannot be null");
+    Objects.requireNonNull(timeToLive, "The time to live cannot be null");
+    if (timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("The time to live must be greater than zero");
+    }
+    this.resultCache = resultCache;
+    this.resultCacheTimeToLive = timeToLive;
+    this.resultCacheTags = tags.clone();
+    return this;
+  }
+
+  public QueryBuilder shapeCache(QueryShapeCache shapeCache) {
+    this.shapeCache = shapeCache;
+    return this;
+  }
+
   public QueryBuilder parameter(String name, Object value) {
     this.whereGroup.addParameter(name, value);
     return this;
@@ -303,38 +602,226 @@ public class QueryBuilder {
 
   private void validateQuery() {
     Objects.requireNonNull(from, "It is not allowed to create a query without 'from' clause");
-    String selectIfNonSpecified = nativeQuery ? "*" : from.getAlias();
-    this.select = Objects.nonNull(select) ? select : new Select(selectIfNonSpecified);
+  }
+
+  public QueryShape getShape() {
+    QueryShape.Builder shape = QueryShape.builder().add(nativeQuery);
+
+    if (Objects.nonNull(statement)) {
+      statement.describeShape(shape);
+    }
+
+    if (Objects.nonNull(select)) {
+      select.describeShape(shape);
+    }
+
+    if (Objects.nonNull(from)) {
+      from.describeShape(shape);
+    }
+
+    joinGroup.describeShape(shape);
+    whereGroup.describeShape(shape);
+
+    if (Objects.nonNull(seekToken)) {
+      shape.add(QueryOperator.WHERE).add(String.valueOf(seekToken.size()));
+    }
+
+    if (Objects.nonNull(idRestriction)) {
+      idRestriction.describeShape(shape);
+    }
+
+    if (Objects.nonNull(groupBy)) {
+      groupBy.describeShape(shape);
+    }
+
+    if (Objects.nonNull(orderBy)) {
+      orderBy.describeShape(shape);
+    }
+
+    return shape.build();
   }
 
   public String getQueryString() {
+    if (Objects.nonNull(shapeCache)) {
+      return shapeCache.getQueryString(this.getShape(), shape -> this.renderQueryString());
+    }
+
+    return this.renderQueryString();
+  }
+
+  // Every operation appends into one buffer reused by the rendering thread, so the final toString() is the only copy
+  private String renderQueryString() {
     this.validateQuery();
 
-    StringBuilder query = new StringBuilder()
-      .append(select.getOperation())
-      .append(from.getOperation())
-      .append(joinGroup.getOperation())
-      .append(whereGroup.getOperation());
+    StringBuilder buffer = RENDER_BUFFER.get();
+    boolean reusingBuffer = buffer.length() == 0;
+    StringBuilder query = reusingBuffer ? buffer : new StringBuilder(INITIAL_RENDER_BUFFER_CAPACITY);
+
+    try {
+      this.appendQuery(query);
+      return query.toString();
+    } finally {
+      if (reusingBuffer) {
+        query.setLength(0);
+        if (query.capacity() > MAXIMUM_RETAINED_RENDER_BUFFER_CAPACITY) {
+          RENDER_BUFFER.remove();
+        }
+      }
+    }
+  }
+
+  private void appendQuery(StringBuilder query) {
+    if (Objects.nonNull(statement)) {
+      this.appendStatement(query);
+      return;
+    }
+
+    if (Objects.nonNull(select)) {
+      select.appendTo(query);
+    } else {
+      String selectIfNonSpecified = nativeQuery ? "*" : from.getAlias();
+      query.append("SELECT ").append(selectIfNonSpecified.trim()).append(' ');
+    }
+
+    from.appendTo(query);
+    joinGroup.appendTo(query);
+    whereGroup.appendTo(query, this.getRestriction());
 
     if (Objects.nonNull(groupBy)) {
-      query.append(groupBy.getOperation());
+      groupBy.appendTo(query);
     }
 
     if (Objects.nonNull(orderBy)) {
-      query.append(orderBy.getOperation());
+      orderBy.appendTo(query);
+    }
+  }
+
+  // Bulk statements cannot join, so the joins and conditions select the ids of the affected rows in a subquery
+  private void appendStatement(StringBuilder query) {
+    statement.appendTo(query);
+    if (joinGroup.getJoins().isEmpty()) {
+      whereGroup.appendTo(query, idRestriction);
+      return;
     }
 
-    return query.toString();
+    query.append(QueryOperator.WHERE.getValue()).append(' ');
+    if (Objects.nonNull(idRestriction)) {
+      QueryUtils.appendTrimmed(query, idRestriction);
+      query.append(' ');
+      return;
+    }
+
+    // The subquery reads the target under its own alias, so it does not shadow the alias of the statement
+    String alias = this.statement.getAlias();
+    String subqueryAlias = this.getSubqueryAlias(alias);
+    QueryBuilder idQuery = this.copy();
+    idQuery.statement = null;
+    idQuery.select = new Select(Collections.singletonList(this.statement.getIdPath(subqueryAlias)));
+    if (Objects.nonNull(alias)) {
+      idQuery.from = new From(this.from.getTable(), subqueryAlias);
+      idQuery.joinGroup = this.joinGroup.withoutFetch().withAlias(alias, subqueryAlias);
+      idQuery.whereGroup = this.whereGroup.withAlias(alias, subqueryAlias);
+    } else {
+      idQuery.joinGroup = this.joinGroup.withoutFetch();
+    }
+    query.append(this.statement.getIdPath()).append(" IN (").append(idQuery.getQueryString()).append(") ");
+  }
+
+  private String getSubqueryAlias(String alias) {
+    if (Objects.isNull(alias)) {
+      return null;
+    }
+
+    int suffix = 1;
+    while (this.joinGroup.isAliasReferenced(alias + suffix) || this.whereGroup.isAliasReferenced(alias + suffix)) {
+      suffix++;
+    }
+    return alias + suffix;
+  }
+
+  public CompiledQuery compile() {
+    String queryString = this.getQueryString();
+    return new CompiledQuery(
+      queryString, nativeQuery, firstResult, maxResults, this.whereGroup.getParameterView(), this.hints, flushMode,
+      lockMode, this.getInListPaddingLimit(), inListChunkSize
+    );
+  }
+
+  public QueryBuilder copy() {
+    return this.copy(this.entityManager);
+  }
+
+  // Clauses are copied on write: a copy shares the collections of its source, and whichever side changes them first
+  // copies them. copy() only marks a source shared while it is not, and the clauses of a frozen snapshot are created
+  // shared and never change, so concurrent derive() calls only read the snapshot
+  QueryBuilder copy(EntityManager entityManager) {
+    QueryBuilder copy = new QueryBuilder(entityManager);
+    copy.select = Objects.isNull(select) ? null : select.copy();
+    copy.from = this.from;
+    copy.joinGroup = this.joinGroup.copy();
+    copy.whereGroup = this.whereGroup.copy();
+    copy.groupBy = this.groupBy;
+    copy.orderBy = Objects.isNull(orderBy) ? null : orderBy.copy();
+    copy.firstResult = this.firstResult;
+    copy.maxResults = this.maxResults;
+    copy.lastOperator = this.lastOperator;
+    copy.nativeQuery = this.nativeQuery;
+    copy.hints.putAll(this.hints);
+    copy.shapeCache = this.shapeCache;
+    copy.seekToken = this.seekToken;
+    copy.inListPadding = this.inListPadding;
+    copy.inListChunkSize = this.inListChunkSize;
+    copy.listener = this.listener;
+    copy.resultCache = this.resultCache;
+    copy.resultCacheTimeToLive = this.resultCacheTimeToLive;
+    copy.resultCacheTags = this.resultCacheTags;
+    copy.expressionParameters = this.expressionParameters;
+    copy.fetchJoinPagingIdAttribute = this.fetchJoinPagingIdAttribute;
+    copy.idRestriction = this.idRestriction;
+    copy.flushMode = this.flushMode;
+    copy.lockMode = this.lockMode;
+    copy.statement = Objects.isNull(statement) ? null : statement.copy();
+    copy.clearAfterEachBatch = this.clearAfterEachBatch;
+    return copy;
+  }
+
+  public QuerySnapshot freeze() {
+    this.validateQuery();
+    return new QuerySnapshot(this.copy(null));
+  }
+
+  private QueryOperation getRestriction() {
+    if (Objects.isNull(seekToken)) {
+      return idRestriction;
+    }
+    return new Seek(orderBy, seekToken.size(), nativeQuery);
+  }
+
+  private int getInListPaddingLimit() {
+    if (!inListPadding) {
+      return 0;
+    }
+    return inListChunkSize > 0 ? inListChunkSize : Integer.MAX_VALUE;
   }
 
   public <T> TypedQuery<T> getQuery(Class<T> resultClass) {
+    return this.getQuery(resultClass, this.getQueryString(), this.whereGroup.getParameterView());
+  }
+
+  private <T> TypedQuery<T> getQuery(Class<T> resultClass, String queryString, Map<String, Object> parameters) {
     Objects.requireNonNull(entityManager, "It is not allowed to execute a query without inject a entity manager");
 
-    String queryString = this.getQueryString();
     TypedQuery<T> query = this.entityManager.createQuery(queryString, resultClass)
       .setFirstResult(firstResult)
       .setMaxResults(maxResults);
-    this.whereGroup.getParameters().forEach(query::setParameter);
+    QueryUtils.setParameters(query, parameters, this.getInListPaddingLimit());
+    this.hints.forEach(query::setHint);
+    if (Objects.nonNull(flushMode)) {
+      query.setFlushMode(flushMode);
+    }
+    if (Objects.nonNull(lockMode)) {
+      query.setLockMode(lockMode);
+    }
     return query;
   }
 
@@ -350,26 +837,130 @@ public class QueryBuilder {
     return this.whereGroup.getParameters();
   }
 
+  Map<String, Object> getParameterView() {
+    return this.whereGroup.getParameterView();
+  }
+
   public Query getNativeQuery() {
+    return this.getNativeQuery(this.getQueryString(), this.whereGroup.getParameterView());
+  }
+
+  private Query getNativeQuery(String queryString, Map<String, Object> parameters) {
     Objects.requireNonNull(entityManager, "It is not allowed to execute a query without inject a entity manager");
+    if (Objects.nonNull(lockMode)) {
+      throw new IllegalStateException("Lock modes can only be applied to JPQL queries");
+    }
 
-    String queryString = this.getQueryString();
     Query query = this.entityManager.createNativeQuery(queryString, Tuple.class)
       .setFirstResult(firstResult)
       .setMaxResults(maxResults);
-    this.whereGroup.getParameters().forEach(query::setParameter);
+    QueryUtils.setParameters(query, parameters, this.getInListPaddingLimit());
+    this.hints.forEach(query::setHint);
+    if (Objects.nonNull(flushMode)) {
+      query.setFlushMode(flushMode);
+    }
     return query;
   }
 
+  public int executeUpdate() {
+    return this.observe(null, null, this::runStatement, Integer::intValue);
+  }
+
+  private int runStatement(String queryString) {
+    Objects.requireNonNull(entityManager, "It is not allowed to execute a query without inject a entity manager");
+    if (Objects.isNull(statement)) {
+      throw new IllegalStateException("Only update and delete statements can be executed with executeUpdate()");
+    }
+
+    Query query = nativeQuery
+      ? this.entityManager.createNativeQuery(queryString)
+      : this.entityManager.createQuery(queryString);
+    QueryUtils.setParameters(query, this.whereGroup.getParameterView(), this.getInListPaddingLimit());
+    this.hints.forEach(query::setHint);
+    if (Objects.nonNull(flushMode)) {
+      query.setFlushMode(flushMode);
+    }
+    return query.executeUpdate();
+  }
+
+  public int executeUpdateInChunks(int chunkSize) {
+    return this.executeUpdateInChunks(chunkSize, Supplier::get);
+  }
+
+  // Each chunk reads the next ids in id order and runs the statement for those ids alone, so a chunk never touches
+  // more than chunkSize rows. The chunk runner can give each chunk its own transaction to release the locks early
+  public int executeUpdateInChunks(int chunkSize, Function<Supplier<Integer>, Integer> chunkRunner) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("The chunk size must be greater than zero");
+    }
+    Objects.requireNonNull(chunkRunner, "The chunk runner cannot be null");
+    if (Objects.isNull(statement)) {
+      throw new IllegalStateException("Only update and delete statements can be executed in chunks");
+    }
+
+    ChunkCursor cursor = new ChunkCursor();
+    int affectedRows = 0;
+    while (!cursor.exhausted) {
+      int executedChunks = cursor.executedChunks;
+      Integer chunkRows = chunkRunner.apply(() -> this.executeChunk(cursor, chunkSize));
+      // The cursor only moves when the chunk runs, so a runner that skips it would loop forever
+      if (cursor.executedChunks == executedChunks || Objects.isNull(chunkRows)) {
+        throw new IllegalStateException("The chunk runner must run the chunk and return the number of affected rows");
+      }
+      affectedRows += chunkRows;
+    }
+    return affectedRows;
+  }
+
+  private int executeChunk(ChunkCursor cursor, int chunkSize) {
+    cursor.executedChunks++;
+    String idPath = this.statement.getIdPath();
+    QueryBuilder idQuery = this.copy();
+    idQuery.statement = null;
+    idQuery.resultCache = null;
+    idQuery.select = new Select(Collections.singletonList(idPath));
+    idQuery.joinGroup = this.joinGroup.withoutFetch();
+    idQuery.orderBy = new OrderBy(idPath, SortDirection.ASC);
+    idQuery.firstResult = 0;
+    idQuery.maxResults = chunkSize;
+    if (Objects.nonNull(cursor.lastId)) {
+      idQuery.seekAfter(cursor.lastId);
+    }
+    // The parameters of the set clauses are not part of the id query
+    idQuery.whereGroup.retainParameters(QueryUtils.extractParameterName(idQuery.getQueryString()));
+
+    List<Object> ids = new ArrayList<>(chunkSize);
+    for (Tuple tuple : idQuery.getResultList()) {
+      ids.add(tuple.get(0));
+    }
+    cursor.exhausted = ids.size() < chunkSize;
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    cursor.lastId = ids.get(ids.size() - 1);
+
+    QueryBuilder chunkStatement = this.copy();
+    chunkStatement.idRestriction = new IdRestriction(idPath);
+    chunkStatement.whereGroup.retainParameters(QueryUtils.extractParameterName(chunkStatement.getQueryString()));
+    chunkStatement.whereGroup.addParameter(IdRestriction.PARAMETER_NAME, ids);
+    return chunkStatement.executeUpdate();
+  }
+
   public <T> Optional<T> getSingleResult(Class<T> resultType) {
+    return this.observe(
+      SINGLE_RESULT, resultType, queryString -> this.readSingleResult(resultType, queryString), QueryBuilder::countRows
+    );
+  }
+
+  private <T> Optional<T> readSingleResult(Class<T> resultType, String queryString) {
+    Map<String, Object> parameters = this.whereGroup.getParameterView();
     try {
       if (nativeQuery) {
-        Object resultObject = this.getNativeQuery().getSingleResult();
-        T result = resultType.cast(resultObject);
-        return Optional.ofNullable(result);
+        Query query = this.getNativeQuery(queryString, parameters);
+        return Optional.ofNullable(QueryResults.readNativeSingleResult(query, resultType));
       }
 
-      return Optional.ofNullable(this.getQuery(resultType).getSingleResult());
+      return Optional.ofNullable(this.getQuery(resultType, queryString, parameters).getSingleResult());
     } catch (NoResultException exception) {
       return Optional.empty();
     }
@@ -380,29 +971,691 @@ public class QueryBuilder {
   }
 
   public <T> Optional<T> getSingleResult(Function<Tuple, T> mapper) {
-    return this.getSingleResult().map(mapper);
+    return this.observe(
+      null, null,
+      queryString -> this.readSingleResult(Tuple.class, queryString),
+      tuple -> tuple.map(mapper),
+      QueryBuilder::countRows
+    );
+  }
+
+  private static int countRows(Optional<?> result) {
+    return result.isPresent() ? 1 : 0;
+  }
+
+  // The query is copied when called, so the builder can keep changing while the future runs on its own entity manager
+  public <T> CompletableFuture<Optional<T>> getSingleResultAsync(Class<T> resultType, AsyncQueryExecutor executor) {
+    QueryBuilder query = this.copy(null);
+    return executor.supply(entityManager -> query.copy(entityManager).getSingleResult(resultType));
+  }
+
+  public <T> CompletableFuture<List<T>> getResultListAsync(Class<T> resultType, AsyncQueryExecutor executor) {
+    QueryBuilder query = this.copy(null);
+    return executor.supply(entityManager -> query.copy(entityManager).getResultList(resultType));
+  }
+
+  public CompletableFuture<List<Tuple>> getResultListAsync(AsyncQueryExecutor executor) {
+    QueryBuilder query = this.copy(null);
+    return executor.supply(entityManager -> query.copy(entityManager).getResultList());
+  }
+
+  public <T> CompletableFuture<List<T>> getResultListAsync(Function<Tuple, T> mapper, AsyncQueryExecutor executor) {
+    QueryBuilder query = this.copy(null);
+    return executor.supply(entityManager -> query.copy(entityManager).getResultList(mapper));
   }
 
   public <T> List<T> getResultList(Class<T> resultType) {
-    return this.getQuery(resultType).getResultList();
+    if (this.isFetchJoinPagingRequired()) {
+      return this.getFetchJoinPage(resultType);
+    }
+
+    return this.observe(
+      LIST_RESULT, resultType, queryString -> this.readResultList(resultType, queryString), List::size
+    );
+  }
+
+  private boolean isFetchJoinPagingRequired() {
+    boolean pageRequested = firstResult != 0 || maxResults != Integer.MAX_VALUE;
+    return Objects.nonNull(fetchJoinPagingIdAttribute) && pageRequested && !nativeQuery
+      && this.joinGroup.getJoins().stream().anyMatch(join -> join.getType().isFetch());
+  }
+
+  // Paging a collection fetch join would page the joined rows, so Hibernate reads every row and pages in memory.
+  // The ids of the page are read first without fetching, then the entities of the page are fetched by those ids
+  private <T> List<T> getFetchJoinPage(Class<T> resultType) {
+    Objects.requireNonNull(from, "It is not allowed to create a query without 'from' clause");
+    String idPath = from.getAlias() + "." + fetchJoinPagingIdAttribute;
+    List<Object> ids = this.readPageIds(idPath);
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    QueryBuilder graphQuery = this.copy();
+    graphQuery.fetchJoinPagingIdAttribute = null;
+    graphQuery.firstResult = 0;
+    graphQuery.maxResults = Integer.MAX_VALUE;
+    graphQuery.seekToken = null;
+    graphQuery.idRestriction = new IdRestriction(idPath);
+    graphQuery.whereGroup.retainParameters(QueryUtils.extractParameterName(graphQuery.getQueryString()));
+    graphQuery.whereGroup.addParameter(IdRestriction.PARAMETER_NAME, ids);
+
+    PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    Map<Object, T> rowsById = new HashMap<>();
+    for (T row : graphQuery.getResultList(resultType)) {
+      rowsById.putIfAbsent(persistenceUnitUtil.getIdentifier(row), row);
+    }
+
+    List<T> page = new ArrayList<>(ids.size());
+    for (Object id : ids) {
+      T row = rowsById.get(id);
+      if (Objects.nonNull(row)) {
+        page.add(row);
+      }
+    }
+    return page;
+  }
+
+  // The order by fields are selected with the id because DISTINCT requires them in the select list on most databases
+  private List<Object> readPageIds(String idPath) {
+    List<String> fields = new ArrayList<>();
+    fields.add(DISTINCT + idPath);
+    List<String> referencingClauses = new ArrayList<>(this.whereGroup.getClauses());
+    if (Objects.nonNull(orderBy)) {
+      for (String field : orderBy.getFields().keySet()) {
+        if (!field.equals(idPath)) {
+          fields.add(field);
+        }
+        referencingClauses.add(field);
+      }
+    }
+
+    QueryBuilder idQuery = this.copy();
+    idQuery.fetchJoinPagingIdAttribute = null;
+    // The rows are locked by the second query, databases reject locks on DISTINCT selections
+    idQuery.lockMode = null;
+    idQuery.select = new Select(fields);
+    idQuery.joinGroup = this.joinGroup.withoutFetch().withoutUnreferencedLeftJoins(referencingClauses);
+    // A pruned join can take the only clause that used a parameter, and JPA rejects binding an unknown one
+    idQuery.whereGroup.retainParameters(QueryUtils.extractParameterName(idQuery.getQueryString()));
+
+    Set<Object> ids = new LinkedHashSet<>();
+    for (Tuple tuple : idQuery.getResultList(Tuple.class)) {
+      ids.add(tuple.get(0));
+    }
+    return new ArrayList<>(ids);
   }
 
-  @SuppressWarnings("unchecked")
   public List<Tuple> getResultList() {
-    return this.nativeQuery
-      ? (List<Tuple>) this.getNativeQuery().getResultList()
-      : this.getResultList(Tuple.class);
+    return this.observe(LIST_RESULT, Tuple.class, this::readTuples, List::size);
+  }
+
+  private <T> List<T> readResultList(Class<T> resultType, String queryString) {
+    if (nativeQuery) {
+      return QueryResults.mapTuples(this.readTuples(queryString), NativeResultMapper.of(resultType));
+    }
+    return this.getChunkedResultList(
+      queryString, parameters -> this.getQuery(resultType, queryString, parameters).getResultList()
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Tuple> readTuples(String queryString) {
+    if (!nativeQuery) {
+      return this.readResultList(Tuple.class, queryString);
+    }
+    return this.getChunkedResultList(
+      queryString, parameters -> (List<Tuple>) this.getNativeQuery(queryString, parameters).getResultList()
+    );
+  }
+
+  private <R> R observe(
+    String resultKind, Class<?> resultType, Function<String, R> execution, ToIntFunction<R> rowCounter
+  ) {
+    return this.observe(resultKind, resultType, execution, Function.identity(), rowCounter);
+  }
+
+  // Without a listener the query is rendered and executed directly, so the timings cost nothing. A result kind of
+  // null marks results that cannot be cached, such as the ones built by a caller supplied mapper
+  private <R, T> T observe(
+    String resultKind, Class<?> resultType, Function<String, R> execution, Function<R, T> mapping,
+    ToIntFunction<T> rowCounter
+  ) {
+    if (Objects.isNull(listener)) {
+      String queryString = this.getQueryString();
+      return this.readThroughCache(
+        resultKind, resultType, queryString, () -> mapping.apply(execution.apply(queryString))
+      );
+    }
+
+    long renderStart = System.nanoTime();
+    String queryString = this.getQueryString();
+    long executionStart = System.nanoTime();
+    long[] mappingStart = {Long.MIN_VALUE};
+    T result = this.readThroughCache(resultKind, resultType, queryString, () -> {
+      R rows = execution.apply(queryString);
+      mappingStart[0] = System.nanoTime();
+      return mapping.apply(rows);
+    });
+    long end = System.nanoTime();
+    long mappingStarted = mappingStart[0] == Long.MIN_VALUE ? end : mappingStart[0];
+
+    this.listener.onQueryExecuted(new QueryExecutionEvent(
+      queryString, this.getShape().getFingerprint(), executionStart - renderStart, mappingStarted - executionStart,
+      end - mappingStarted, rowCounter.applyAsInt(result)
+    ));
+    return result;
+  }
+
+  private boolean isEntity(Class<?> type) {
+    if (type.isAnnotationPresent(Entity.class)) {
+      return true;
+    }
+    if (Tuple.class.equals(type) || ColumnConverters.isScalar(type) || Objects.isNull(entityManager)) {
+      return false;
+    }
+
+    Metamodel metamodel = this.entityManager.getMetamodel();
+    if (Objects.isNull(metamodel)) {
+      return false;
+    }
+    try {
+      metamodel.entity(type);
+      return true;
+    } catch (IllegalArgumentException exception) {
+      return false;
+    }
+  }
+
+  // Cached lists are shared between callers, so they are returned read-only
+  @SuppressWarnings("unchecked")
+  private <T> T readThroughCache(String resultKind, Class<?> resultType, String queryString, Supplier<T> loader) {
+    // Locking reads must reach the database to take their locks
+    if (Objects.isNull(resultCache) || Objects.isNull(resultKind) || Objects.nonNull(lockMode)) {
+      return loader.get();
+    }
+    // The cache is shared between entity managers and threads, a managed entity belongs to one persistence context
+    if (!nativeQuery && this.isEntity(resultType)) {
+      String exceptionMessage = "Results of the %s entity cannot be cached. Select a DTO or scalar values instead";
+      throw new IllegalStateException(String.format(exceptionMessage, resultType.getName()));
+    }
+
+    List<Object> key = Arrays.asList(
+      resultKind, resultType, nativeQuery, queryString, new HashMap<>(this.whereGroup.getParameterView()),
+      firstResult, maxResults
+    );
+    return this.resultCache.get(key, resultCacheTimeToLive, resultCacheTags, () -> {
+      T result = loader.get();
+      return result instanceof List ? (T) Collections.unmodifiableList((List<?>) result) : result;
+    });
+  }
+
+  private boolean isAggregateOrDistinctSelection() {
+    if (Objects.isNull(select)) {
+      return false;
+    }
+    for (String field : select.getFields()) {
+      if (field.regionMatches(true, 0, DISTINCT, 0, DISTINCT.length()) || AGGREGATE_FUNCTION.matcher(field).find()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private <T> List<T> getChunkedResultList(String queryString, Function<Map<String, Object>, List<T>> execution) {
+    return this.getChunkedResultList(queryString, this.whereGroup.getParameterView(), execution);
+  }
+
+  // Collections larger than the chunk size (e.g. Oracle's limit of 1000 IN list elements) are split into one
+  // query per chunk and the results are concatenated in chunk order
+  private <T> List<T> getChunkedResultList(
+    String queryString, Map<String, Object> parameters, Function<Map<String, Object>, List<T>> execution
+  ) {
+    String chunkedParameter = this.findChunkedParameter(parameters);
+
+    if (Objects.isNull(chunkedParameter)) {
+      return execution.apply(parameters);
+    }
+
+    // A value repeated in two chunks would read its rows twice
+    List<Object> values = new ArrayList<>(new LinkedHashSet<>((Collection<?>) parameters.get(chunkedParameter)));
+    Map<String, Object> chunkParameters = new HashMap<>(parameters);
+    if (values.size() <= inListChunkSize) {
+      chunkParameters.put(chunkedParameter, values);
+      return execution.apply(chunkParameters);
+    }
+
+    if (firstResult != 0 || maxResults != Integer.MAX_VALUE) {
+      throw new IllegalStateException("IN lists cannot be split into chunks when 'firstResult' or 'maxResults' is set");
+    }
+    // Each chunk is a separate query, so groups, aggregates, distinct rows and ordering would only hold per chunk.
+    // Chunks of page ids are safe: the rows of an id never span chunks and the page is reordered by id afterwards
+    boolean restrictedIds = IdRestriction.PARAMETER_NAME.equals(chunkedParameter) && Objects.nonNull(idRestriction);
+    boolean mergeableChunks = Objects.isNull(groupBy) && Objects.isNull(orderBy)
+      && !this.isAggregateOrDistinctSelection();
+    if (!mergeableChunks && !restrictedIds) {
+      throw new IllegalStateException(
+        "IN lists cannot be split into chunks for queries with 'group by', 'order by', aggregates or 'distinct'"
+      );
+    }
+    // With NOT IN, OR or a second use of the list, a chunk would also match rows that the whole list excludes
+    boolean narrowingInList = restrictedIds || this.whereGroup.isTopLevelInList(chunkedParameter);
+    if (!narrowingInList || !QueryUtils.isSolePositiveInList(queryString, chunkedParameter)) {
+      String exceptionMessage = "The IN list '%s' can only be split into chunks when its only use is "
+        + "'<path> IN :%s' joined to the other conditions by AND";
+      throw new IllegalStateException(String.format(exceptionMessage, chunkedParameter, chunkedParameter));
+    }
+
+    List<T> results = new ArrayList<>();
+    for (List<Object> chunk : CollectionUtils.partition(values, inListChunkSize)) {
+      chunkParameters.put(chunkedParameter, chunk);
+      results.addAll(execution.apply(chunkParameters));
+    }
+
+    return results;
+  }
+
+  private String findChunkedParameter(Map<String, Object> parameters) {
+    if (inListChunkSize <= 0) {
+      return null;
+    }
+
+    String chunkedParameter = null;
+    for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+      Object value = parameter.getValue();
+      if (value instanceof Collection && ((Collection<?>) value).size() > inListChunkSize) {
+        if (Objects.nonNull(chunkedParameter)) {
+          String exceptionMessage = "Only one IN list can be split into chunks, but '%s' and '%s' exceed %d elements";
+          throw new IllegalStateException(
+            String.format(exceptionMessage, chunkedParameter, parameter.getKey(), inListChunkSize)
+          );
+        }
+        chunkedParameter = parameter.getKey();
+      }
+    }
+
+    return chunkedParameter;
+  }
+
+  public <T> List<List<T>> executeBatch(List<Map<String, Object>> parameterSets, Class<T> resultType) {
+    return this.executeBatch(parameterSets, resultType, null);
+  }
+
+  // Returns one result list per parameter set, in the same order. When a single parameter varies between the sets and
+  // is only compared with '=', the sets run as one IN query and each row goes to the set whose value equals its key.
+  // Otherwise the query is rendered and created once and rebound for each set
+  public <T> List<List<T>> executeBatch(
+    List<Map<String, Object>> parameterSets, Class<T> resultType, Function<? super T, ?> keyExtractor
+  ) {
+    Objects.requireNonNull(parameterSets, "The parameter sets cannot be null");
+    if (parameterSets.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    return this.observe(null, null, queryString -> {
+      String varyingParameter = this.findVaryingParameter(parameterSets, keyExtractor);
+      String inQueryString = Objects.isNull(varyingParameter)
+        ? null
+        : QueryUtils.rewriteEqualityAsIn(queryString, varyingParameter);
+
+      return Objects.isNull(inQueryString)
+        ? this.executeBatchByRebinding(parameterSets, resultType, queryString)
+        : this.executeBatchAsIn(parameterSets, resultType, keyExtractor, varyingParameter, inQueryString);
+    }, batches -> batches.stream().mapToInt(List::size).sum());
+  }
+
+  private String findVaryingParameter(List<Map<String, Object>> parameterSets, Function<?, ?> keyExtractor) {
+    boolean pageRequested = firstResult != 0 || maxResults != Integer.MAX_VALUE;
+    // Groups, aggregates and DISTINCT would merge the rows of different sets in the single IN query
+    boolean mergedRows = Objects.nonNull(groupBy) || this.isAggregateOrDistinctSelection();
+    if (Objects.isNull(keyExtractor) || pageRequested || mergedRows || !whereGroup.isConjunction()) {
+      return null;
+    }
+
+    Map<String, Object> baseParameters = this.whereGroup.getParameterView();
+    Set<String> names = new LinkedHashSet<>();
+    parameterSets.forEach(parameterSet -> names.addAll(parameterSet.keySet()));
+    String varyingParameter = null;
+
+    for (String name : names) {
+      Object baseValue = baseParameters.get(name);
+      Object firstValue = parameterSets.get(0).getOrDefault(name, baseValue);
+      boolean varies = parameterSets.stream()
+        .anyMatch(parameterSet -> !Objects.equals(firstValue, parameterSet.getOrDefault(name, baseValue)));
+
+      if (varies) {
+        if (Objects.nonNull(varyingParameter) || QueryUtils.isPositionalParameter(name)) {
+          return null;
+        }
+        varyingParameter = name;
+      }
+    }
+
+    if (Objects.isNull(varyingParameter)) {
+      return null;
+    }
+
+    for (Map<String, Object> parameterSet : parameterSets) {
+      Object value = parameterSet.get(varyingParameter);
+      if (Objects.isNull(value) || value instanceof Collection) {
+        return null;
+      }
+    }
+
+    return varyingParameter;
+  }
+
+  private <T> List<List<T>> executeBatchAsIn(
+    List<Map<String, Object>> parameterSets, Class<T> resultType, Function<? super T, ?> keyExtractor,
+    String varyingParameter, String inQueryString
+  ) {
+    Set<Object> keys = new LinkedHashSet<>();
+    parameterSets.forEach(parameterSet -> keys.add(parameterSet.get(varyingParameter)));
+
+    Map<String, Object> parameters = new HashMap<>(this.whereGroup.getParameterView());
+    parameters.putAll(parameterSets.get(0));
+    parameters.put(varyingParameter, new ArrayList<>(keys));
+
+    List<T> rows = this.getChunkedResultList(
+      inQueryString, parameters, chunkParameters -> this.readBatch(resultType, inQueryString, chunkParameters)
+    );
+
+    Map<Object, List<T>> rowsByKey = new HashMap<>();
+    for (T row : rows) {
+      rowsByKey.computeIfAbsent(keyExtractor.apply(row), key -> new ArrayList<>()).add(row);
+    }
+
+    List<List<T>> batches = new ArrayList<>(parameterSets.size());
+    for (Map<String, Object> parameterSet : parameterSets) {
+      List<T> keyRows = rowsByKey.get(parameterSet.get(varyingParameter));
+      batches.add(Objects.isNull(keyRows) ? new ArrayList<>() : new ArrayList<>(keyRows));
+    }
+    return batches;
+  }
+
+  private <T> List<List<T>> executeBatchByRebinding(
+    List<Map<String, Object>> parameterSets, Class<T> resultType, String queryString
+  ) {
+    Map<String, Object> baseParameters = this.whereGroup.getParameterView();
+    Query query = this.nativeQuery
+      ? this.getNativeQuery(queryString, baseParameters)
+      : this.getQuery(resultType, queryString, baseParameters);
+    Function<Tuple, T> nativeMapper = this.nativeQuery ? NativeResultMapper.of(resultType) : null;
+
+    List<List<T>> batches = new ArrayList<>(parameterSets.size());
+    for (Map<String, Object> parameterSet : parameterSets) {
+      Map<String, Object> parameters = new HashMap<>(baseParameters);
+      parameters.putAll(parameterSet);
+      QueryUtils.setParameters(query, parameters, this.getInListPaddingLimit());
+      batches.add(QueryResults.readRows(query, nativeMapper));
+    }
+    return batches;
+  }
+
+  private <T> List<T> readBatch(Class<T> resultType, String queryString, Map<String, Object> parameters) {
+    if (!nativeQuery) {
+      return this.getQuery(resultType, queryString, parameters).getResultList();
+    }
+    return QueryResults.readRows(this.getNativeQuery(queryString, parameters), NativeResultMapper.of(resultType));
   }
 
   public <T> List<T> getResultList(Function<Tuple, T> mapper) {
-    return this.getResultList()
-      .stream()
-      .map(mapper)
-      .collect(Collectors.toList());
+    return this.observe(null, null, this::readTuples, tuples -> QueryResults.mapTuples(tuples, mapper), List::size);
   }
 
   public <T> List<T> getResultListToPojo(Class<T> resultType) {
-    return this.getResultList(AliasToPojoResultMapper.from(resultType));
+    Function<Tuple, T> mapper = QueryResults.pojoMapper(resultType, nativeQuery);
+    return this.observe(
+      POJO_RESULT, resultType, this::readTuples, tuples -> QueryResults.mapTuples(tuples, mapper), List::size
+    );
+  }
+
+  // The provider instantiates the DTO from a constructor expression, skipping the intermediate tuple of each row
+  public <T> List<T> getResultListToDto(Class<T> resultType) {
+    if (nativeQuery) {
+      throw new IllegalStateException("Constructor expressions can only be used in JPQL queries");
+    }
+    Objects.requireNonNull(from, "It is not allowed to create a query without 'from' clause");
+
+    ConstructorExpression expression = ConstructorExpression.of(resultType);
+    QueryBuilder dtoQuery = this.copy();
+    dtoQuery.select = new Select(Objects.isNull(select)
+      ? expression.render(from.getAlias())
+      : expression.render(select.getFields()));
+    return dtoQuery.getResultList(resultType);
+  }
+
+  public <T> Stream<T> getResultStream(Class<T> resultType) {
+    if (nativeQuery) {
+      return this.getResultStream(NativeResultMapper.of(resultType));
+    }
+    return this.getQuery(resultType).getResultStream();
+  }
+
+  @SuppressWarnings("unchecked")
+  public Stream<Tuple> getResultStream() {
+    return this.nativeQuery
+      ? (Stream<Tuple>) this.getNativeQuery().getResultStream()
+      : this.getResultStream(Tuple.class);
+  }
+
+  public <T> Stream<T> getResultStream(Function<Tuple, T> mapper) {
+    return this.getResultStream().map(mapper);
+  }
+
+  public <T> Stream<T> getResultStreamToPojo(Class<T> resultType) {
+    return this.getResultStream(QueryResults.pojoMapper(resultType, nativeQuery));
+  }
+
+  public <T> void forEachBatch(Class<T> resultType, int batchSize, Consumer<List<T>> batchConsumer) {
+    if (nativeQuery) {
+      this.forEachBatch(NativeResultMapper.of(resultType), batchSize, batchConsumer);
+      return;
+    }
+
+    validateBatchSize(batchSize);
+    Stream<T> rows = this.streamWithFetchSize(this.getQuery(resultType), batchSize);
+    this.consumeInBatches(rows, batchSize, batchConsumer);
+  }
+
+  public <T> void forEachBatch(Function<Tuple, T> mapper, int batchSize, Consumer<List<T>> batchConsumer) {
+    validateBatchSize(batchSize);
+    Query query = this.nativeQuery ? this.getNativeQuery() : this.getQuery(Tuple.class);
+    Stream<Tuple> tuples = this.streamWithFetchSize(query, batchSize);
+    this.consumeInBatches(tuples.map(mapper), batchSize, batchConsumer);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Stream<T> streamWithFetchSize(Query query, int batchSize) {
+    if (!this.hints.containsKey(QueryHints.FETCH_SIZE)) {
+      query.setHint(QueryHints.FETCH_SIZE, batchSize);
+    }
+    return (Stream<T>) query.getResultStream();
+  }
+
+  public QueryBuilder toCountQuery() {
+    Objects.requireNonNull(from, "It is not allowed to create a query without 'from' clause");
+    QueryBuilder countQuery = new QueryBuilder(entityManager);
+    countQuery.nativeQuery = this.nativeQuery;
+    // The count runs with the same settings as the page it counts
+    countQuery.hints.putAll(this.hints);
+    countQuery.flushMode = this.flushMode;
+    countQuery.lockMode = this.lockMode;
+    countQuery.inListPadding = this.inListPadding;
+    countQuery.inListChunkSize = this.inListChunkSize;
+
+    if (Objects.nonNull(groupBy)) {
+      QueryBuilder groupedQuery = this.groupedQueryForCount();
+      countQuery.select("COUNT(*)").from(groupedQuery, "grouped");
+    } else {
+      String countSelection = this.getCountSelection();
+      List<String> referencingClauses = new ArrayList<>(this.whereGroup.getClauses());
+      referencingClauses.add(countSelection);
+
+      countQuery.select(countSelection);
+      countQuery.from = this.from;
+      countQuery.whereGroup = this.whereGroup.copy();
+      countQuery.joinGroup = this.joinGroup.withoutFetch().withoutUnreferencedLeftJoins(referencingClauses);
+    }
+
+    List<String> usedParameters = QueryUtils.extractParameterName(countQuery.getQueryString());
+    countQuery.whereGroup.retainParameters(usedParameters);
+    return countQuery;
+  }
+
+  private QueryBuilder groupedQueryForCount() {
+    if (!nativeQuery) {
+      throw new IllegalStateException("Count queries can only be derived from JPQL queries without 'group by'");
+    }
+
+    QueryBuilder query = new QueryBuilder(entityManager);
+    query.nativeQuery = true;
+    query.select = this.select;
+    query.from = this.from;
+    query.joinGroup = this.joinGroup;
+    query.whereGroup = this.whereGroup.copy();
+    query.groupBy = this.groupBy;
+    return query;
+  }
+
+  private String getCountSelection() {
+    if (nativeQuery) {
+      return "COUNT(*)";
+    }
+
+    if (Objects.nonNull(select) && select.getFields().size() == 1) {
+      String field = select.getFields().get(0);
+      if (field.regionMatches(true, 0, DISTINCT, 0, DISTINCT.length())) {
+        return String.format("COUNT(%s)", field);
+      }
+    }
+
+    return String.format("COUNT(%s)", from.getAlias());
+  }
+
+  public long count() {
+    return readCount(this.toCountQuery().compile(), entityManager);
+  }
+
+  private static long readCount(CompiledQuery countQuery, EntityManager entityManager) {
+    if (countQuery.isNativeQuery()) {
+      Tuple result = (Tuple) countQuery.bind().getNativeQuery(entityManager).getSingleResult();
+      return ((Number) result.get(0)).longValue();
+    }
+
+    return countQuery.bind().getQuery(entityManager, Long.class).getSingleResult();
+  }
+
+  public <T> Page<T> getPage(Class<T> resultType, int pageNumber, int pageSize) {
+    validatePage(pageNumber, pageSize);
+    List<T> content = this.getPageContent(resultType, pageNumber, pageSize);
+    return new Page<>(content, pageNumber, pageSize, this.count());
+  }
+
+  public <T> Page<T> getPage(
+    Class<T> resultType, int pageNumber, int pageSize, EntityManagerFactory countEntityManagerFactory, Executor executor
+  ) {
+    validatePage(pageNumber, pageSize);
+    CompiledQuery countQuery = this.toCountQuery().compile();
+
+    CompletableFuture<Long> totalElements = CompletableFuture.supplyAsync(() -> {
+      EntityManager countEntityManager = countEntityManagerFactory.createEntityManager();
+      try {
+        return readCount(countQuery, countEntityManager);
+      } finally {
+        countEntityManager.close();
+      }
+    }, executor);
+
+    List<T> content = this.getPageContent(resultType, pageNumber, pageSize);
+
+    try {
+      return new Page<>(content, pageNumber, pageSize, totalElements.join());
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  // Read through getResultList, so native rows are mapped and fetch joins are paged like any other result list
+  private <T> List<T> getPageContent(Class<T> resultType, int pageNumber, int pageSize) {
+    return this.pageQuery(Math.multiplyExact(pageNumber, pageSize), pageSize).getResultList(resultType);
+  }
+
+  private QueryBuilder pageQuery(int firstResult, int maxResults) {
+    QueryBuilder pageQuery = this.copy();
+    pageQuery.firstResult = firstResult;
+    pageQuery.maxResults = maxResults;
+    return pageQuery;
+  }
+
+  private static void validatePage(int pageNumber, int pageSize) {
+    validatePageSize(pageSize);
+    if (pageNumber < 0) {
+      throw new IllegalArgumentException("The page number cannot be negative");
+    }
+  }
+
+  public <T> KeysetPage<T> getKeysetPage(Class<T> resultType, int pageSize, Function<T, Object[]> keyExtractor) {
+    validatePageSize(pageSize);
+    List<T> rows = this.pageQuery(0, pageSize + 1).getResultList(resultType);
+    return toKeysetPage(rows, pageSize, keyExtractor);
+  }
+
+  public <T> KeysetPage<T> getKeysetPage(Function<Tuple, T> mapper, int pageSize, Function<T, Object[]> keyExtractor) {
+    validatePageSize(pageSize);
+    List<T> rows = this.pageQuery(0, pageSize + 1).getResultList(mapper);
+    return toKeysetPage(rows, pageSize, keyExtractor);
+  }
+
+  private static <T> KeysetPage<T> toKeysetPage(List<T> rows, int pageSize, Function<T, Object[]> keyExtractor) {
+    if (rows.size() <= pageSize) {
+      return new KeysetPage<>(rows, null);
+    }
+
+    List<T> content = new ArrayList<>(rows.subList(0, pageSize));
+    SeekToken nextToken = SeekToken.of(keyExtractor.apply(content.get(pageSize - 1)));
+    return new KeysetPage<>(content, nextToken);
+  }
+
+  private static void validatePageSize(int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("The page size must be greater than zero");
+    }
+  }
+
+  private <T> void consumeInBatches(Stream<T> stream, int batchSize, Consumer<List<T>> batchConsumer) {
+    try (Stream<T> rows = stream) {
+      Iterator<T> iterator = rows.iterator();
+      List<T> batch = new ArrayList<>(batchSize);
+
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+        if (batch.size() == batchSize) {
+          batchConsumer.accept(batch);
+          this.clearConsumedBatch();
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+
+      if (!batch.isEmpty()) {
+        batchConsumer.accept(batch);
+        this.clearConsumedBatch();
+      }
+    }
+  }
+
+  private void clearConsumedBatch() {
+    if (clearAfterEachBatch) {
+      this.entityManager.clear();
+    }
+  }
+
+  private static void validateBatchSize(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("The batch size must be greater than zero");
+    }
   }
 
   @Override
@@ -410,4 +1663,12 @@ public class QueryBuilder {
     return this.getQueryString();
   }
 
+  private static class ChunkCursor {
+
+    private Object lastId;
+    private boolean exhausted;
+    private int executedChunks;
+
+  }
+
 }
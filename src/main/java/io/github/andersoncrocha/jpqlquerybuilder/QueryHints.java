@@ -0,0 +1,56 @@
+package io.github.andersoncrocha.jpqlquerybuilder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class QueryHints {
+
+  public static final String FETCH_SIZE = "org.hibernate.fetchSize";
+  public static final String READ_ONLY = "org.hibernate.readOnly";
+  public static final String CACHEABLE = "org.hibernate.cacheable";
+  public static final String COMMENT = "org.hibernate.comment";
+  public static final String TIMEOUT = "javax.persistence.query.timeout";
+
+  public static final String BULK_EXPORT = "bulk-export";
+  public static final String OLTP_LOOKUP = "oltp-lookup";
+
+  private static final Map<String, Map<String, Object>> PRESETS = new ConcurrentHashMap<>();
+
+  static {
+    Map<String, Object> bulkExport = new LinkedHashMap<>();
+    bulkExport.put(FETCH_SIZE, 1000);
+    bulkExport.put(READ_ONLY, true);
+    bulkExport.put(CACHEABLE, false);
+    registerPreset(BULK_EXPORT, bulkExport);
+
+    Map<String, Object> oltpLookup = new LinkedHashMap<>();
+    oltpLookup.put(FETCH_SIZE, 50);
+    oltpLookup.put(CACHEABLE, true);
+    oltpLookup.put(TIMEOUT, 2000);
+    registerPreset(OLTP_LOOKUP, oltpLookup);
+  }
+
+  private QueryHints() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  // Registering an existing name replaces the preset for the queries built afterwards
+  public static void registerPreset(String name, Map<String, Object> hints) {
+    Objects.requireNonNull(name, "The preset name cannot be null");
+    Objects.requireNonNull(hints, "The preset hints cannot be null");
+    PRESETS.put(name, Collections.unmodifiableMap(new LinkedHashMap<>(hints)));
+  }
+
+  public static Map<String, Object> getPreset(String name) {
+    Objects.requireNonNull(name, "The preset name cannot be null");
+    Map<String, Object> hints = PRESETS.get(name);
+    if (Objects.isNull(hints)) {
+      throw new IllegalArgumentException(String.format("There is no query hint preset named '%s'", name));
+    }
+    return hints;
+  }
+
+}
@@ -0,0 +1,44 @@
+package io.github.andersoncrocha.jpqlquerybuilder;
+
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.AliasToPojoResultMapper;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.NativeResultMapper;
+
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class QueryResults {
+
+  private QueryResults() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  static <T> T readNativeSingleResult(Query nativeQuery, Class<T> resultType) {
+    return NativeResultMapper.of(resultType).apply((Tuple) nativeQuery.getSingleResult());
+  }
+
+  // Native rows are tuples of driver types, mapped by the same converters as every other native result
+  @SuppressWarnings("unchecked")
+  static <T> List<T> readRows(Query query, Function<Tuple, T> nativeMapper) {
+    if (Objects.isNull(nativeMapper)) {
+      return (List<T>) query.getResultList();
+    }
+    return mapTuples((List<Tuple>) query.getResultList(), nativeMapper);
+  }
+
+  static <T> List<T> mapTuples(List<Tuple> tuples, Function<Tuple, T> mapper) {
+    List<T> results = new ArrayList<>(tuples.size());
+    for (Tuple tuple : tuples) {
+      results.add(mapper.apply(tuple));
+    }
+    return results;
+  }
+
+  static <T> Function<Tuple, T> pojoMapper(Class<T> resultType, boolean nativeQuery) {
+    return nativeQuery ? AliasToPojoResultMapper.fromNative(resultType) : AliasToPojoResultMapper.from(resultType);
+  }
+
+}
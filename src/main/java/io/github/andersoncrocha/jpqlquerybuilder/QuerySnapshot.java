@@ -0,0 +1,40 @@
+package io.github.andersoncrocha.jpqlquerybuilder;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+
+import javax.persistence.EntityManager;
+import java.util.Map;
+
+public final class QuerySnapshot {
+
+  private final QueryBuilder query;
+
+  QuerySnapshot(QueryBuilder query) {
+    this.query = query;
+  }
+
+  public QueryBuilder derive() {
+    return this.query.copy(null);
+  }
+
+  public QueryBuilder derive(EntityManager entityManager) {
+    return this.query.copy(entityManager);
+  }
+
+  public String getQueryString() {
+    return this.query.getQueryString();
+  }
+
+  public Map<String, Object> getParameters() {
+    return this.query.getParameterView();
+  }
+
+  public QueryShape getShape() {
+    return this.query.getShape();
+  }
+
+  public CompiledQuery compile() {
+    return this.query.compile();
+  }
+
+}
@@ -0,0 +1,89 @@
+package io.github.andersoncrocha.jpqlquerybuilder.async;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class AsyncQueryExecutor implements AutoCloseable {
+
+  private static final String THREAD_NAME_PREFIX = "jpql-query-builder-async-";
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+
+  public AsyncQueryExecutor(EntityManagerFactory entityManagerFactory, Executor executor) {
+    this(entityManagerFactory, executor, null);
+  }
+
+  private AsyncQueryExecutor(
+    EntityManagerFactory entityManagerFactory, Executor executor, ExecutorService ownedExecutor
+  ) {
+    this.entityManagerFactory = Objects.requireNonNull(
+      entityManagerFactory, "The entity manager factory cannot be null"
+    );
+    this.executor = Objects.requireNonNull(executor, "The executor cannot be null");
+    this.ownedExecutor = ownedExecutor;
+  }
+
+  // Never runs more queries at once than the given limit, so a fan-out cannot exhaust the connection pool
+  public static AsyncQueryExecutor bounded(EntityManagerFactory entityManagerFactory, int maximumConcurrency) {
+    if (maximumConcurrency <= 0) {
+      throw new IllegalArgumentException("The maximum concurrency must be greater than zero");
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(maximumConcurrency, daemonThreadFactory());
+    return new AsyncQueryExecutor(entityManagerFactory, executorService, executorService);
+  }
+
+  // Looked up reflectively so the library keeps running on Java 8
+  public static AsyncQueryExecutor virtualThreads(EntityManagerFactory entityManagerFactory) {
+    try {
+      ExecutorService executorService = (ExecutorService) Executors.class
+        .getMethod("newVirtualThreadPerTaskExecutor")
+        .invoke(null);
+      return new AsyncQueryExecutor(entityManagerFactory, executorService, executorService);
+    } catch (NoSuchMethodException e) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Cannot create a virtual thread executor: " + e.getMessage(), e);
+    }
+  }
+
+  private static ThreadFactory daemonThreadFactory() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  // Each task gets its own entity manager, because entity managers cannot be shared between threads
+  public <T> CompletableFuture<T> supply(Function<EntityManager, T> task) {
+    Objects.requireNonNull(task, "The task cannot be null");
+    return CompletableFuture.supplyAsync(() -> {
+      EntityManager entityManager = this.entityManagerFactory.createEntityManager();
+      try {
+        return task.apply(entityManager);
+      } finally {
+        entityManager.close();
+      }
+    }, this.executor);
+  }
+
+  @Override
+  public void close() {
+    if (Objects.nonNull(ownedExecutor)) {
+      this.ownedExecutor.shutdown();
+    }
+  }
+
+}
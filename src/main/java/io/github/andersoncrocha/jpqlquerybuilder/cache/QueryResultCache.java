@@ -0,0 +1,161 @@
+package io.github.andersoncrocha.jpqlquerybuilder.cache;
+
+import io.github.andersoncrocha.jpqlquerybuilder.utils.LruCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class QueryResultCache {
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+  private static final QueryResultCache DEFAULT = new QueryResultCache(DEFAULT_MAXIMUM_SIZE);
+  private static final String[] NO_TAGS = new String[0];
+
+  private final LruCache<Object, Entry> entries;
+  private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> tagVersions = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public QueryResultCache(int maximumSize) {
+    this.entries = new LruCache<>(maximumSize);
+  }
+
+  public static QueryResultCache getDefault() {
+    return DEFAULT;
+  }
+
+  // Concurrent misses on the same key wait for a single load instead of all running the query
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Duration timeToLive, String[] tags, Supplier<T> loader) {
+    Objects.requireNonNull(key, "The key cannot be null");
+    Objects.requireNonNull(timeToLive, "The time to live cannot be null");
+
+    Entry entry = this.entries.get(key);
+    if (Objects.nonNull(entry) && this.isValid(entry)) {
+      this.hits.increment();
+      return (T) entry.value;
+    }
+    this.misses.increment();
+
+    CompletableFuture<Object> load = new CompletableFuture<>();
+    CompletableFuture<Object> inFlightLoad = this.loads.putIfAbsent(key, load);
+    if (Objects.nonNull(inFlightLoad)) {
+      return (T) join(inFlightLoad);
+    }
+
+    try {
+      Entry loadedByPreviousLoad = this.entries.get(key);
+      if (Objects.nonNull(loadedByPreviousLoad) && this.isValid(loadedByPreviousLoad)) {
+        load.complete(loadedByPreviousLoad.value);
+        return (T) loadedByPreviousLoad.value;
+      }
+
+      String[] entryTags = Objects.isNull(tags) ? NO_TAGS : tags.clone();
+      long[] versions = this.currentVersions(entryTags);
+      T value = loader.get();
+      Entry loadedEntry = new Entry(value, System.nanoTime() + timeToLive.toNanos(), entryTags, versions);
+      // A tag invalidated while the query ran would otherwise store results read before the invalidation
+      if (this.isValid(loadedEntry)) {
+        this.entries.put(key, loadedEntry);
+      }
+      load.complete(value);
+      return value;
+    } catch (RuntimeException exception) {
+      load.completeExceptionally(exception);
+      throw exception;
+    } finally {
+      this.loads.remove(key, load);
+    }
+  }
+
+  // Entries are not scanned: every entry holding the tag becomes stale and is reloaded on its next read
+  public void invalidate(String tag) {
+    Objects.requireNonNull(tag, "The tag cannot be null");
+    this.tagVersions.computeIfAbsent(tag, name -> new AtomicLong()).incrementAndGet();
+  }
+
+  public void invalidateAll() {
+    this.entries.clear();
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public int getMaximumSize() {
+    return this.entries.getMaximumSize();
+  }
+
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  public long getEvictions() {
+    return this.entries.getEvictions();
+  }
+
+  private boolean isValid(Entry entry) {
+    if (System.nanoTime() - entry.expiresAtNanos >= 0) {
+      return false;
+    }
+    for (int index = 0; index < entry.tags.length; index++) {
+      if (this.currentVersion(entry.tags[index]) != entry.tagVersions[index]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long[] currentVersions(String[] tags) {
+    long[] versions = new long[tags.length];
+    for (int index = 0; index < tags.length; index++) {
+      versions[index] = this.currentVersion(tags[index]);
+    }
+    return versions;
+  }
+
+  private long currentVersion(String tag) {
+    AtomicLong version = this.tagVersions.get(tag);
+    return Objects.isNull(version) ? 0 : version.get();
+  }
+
+  private static Object join(CompletableFuture<Object> load) {
+    try {
+      return load.join();
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  private static final class Entry {
+
+    private final Object value;
+    private final long expiresAtNanos;
+    private final String[] tags;
+    private final long[] tagVersions;
+
+    private Entry(Object value, long expiresAtNanos, String[] tags, long[] tagVersions) {
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+      this.tags = tags;
+      this.tagVersions = tagVersions;
+    }
+
+  }
+
+}
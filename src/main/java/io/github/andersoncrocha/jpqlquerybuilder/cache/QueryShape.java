@@ -0,0 +1,86 @@
+package io.github.andersoncrocha.jpqlquerybuilder.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class QueryShape {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Object[] components;
+  private final int hashCode;
+
+  private QueryShape(Object[] components) {
+    this.components = components;
+    this.hashCode = Arrays.hashCode(components);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public String getFingerprint() {
+    long hash = FNV_OFFSET_BASIS;
+    for (Object component : components) {
+      String value = component instanceof Enum ? ((Enum<?>) component).name() : String.valueOf(component);
+      for (int index = 0; index < value.length(); index++) {
+        hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+      }
+      hash = (hash ^ 0x1f) * FNV_PRIME;
+    }
+    return String.format("%016x", hash);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof QueryShape)) {
+      return false;
+    }
+    QueryShape shape = (QueryShape) other;
+    return hashCode == shape.hashCode && Arrays.equals(components, shape.components);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(components);
+  }
+
+  public static final class Builder {
+
+    private final List<Object> components = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    public Builder add(String component) {
+      this.components.add(component);
+      return this;
+    }
+
+    public Builder add(Enum<?> component) {
+      this.components.add(component);
+      return this;
+    }
+
+    public Builder add(boolean component) {
+      this.components.add(component);
+      return this;
+    }
+
+    public QueryShape build() {
+      return new QueryShape(components.toArray());
+    }
+
+  }
+
+}
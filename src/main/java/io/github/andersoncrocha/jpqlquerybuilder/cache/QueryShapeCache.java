@@ -0,0 +1,43 @@
+package io.github.andersoncrocha.jpqlquerybuilder.cache;
+
+import io.github.andersoncrocha.jpqlquerybuilder.utils.LruCache;
+
+import java.util.function.Function;
+
+public class QueryShapeCache {
+
+  private final LruCache<QueryShape, String> queryStrings;
+
+  public QueryShapeCache(int maximumSize) {
+    this.queryStrings = new LruCache<>(maximumSize);
+  }
+
+  public String getQueryString(QueryShape shape, Function<QueryShape, String> renderer) {
+    return this.queryStrings.get(shape, renderer);
+  }
+
+  public void clear() {
+    this.queryStrings.clear();
+  }
+
+  public int size() {
+    return this.queryStrings.size();
+  }
+
+  public int getMaximumSize() {
+    return this.queryStrings.getMaximumSize();
+  }
+
+  public long getHits() {
+    return this.queryStrings.getHits();
+  }
+
+  public long getMisses() {
+    return this.queryStrings.getMisses();
+  }
+
+  public long getEvictions() {
+    return this.queryStrings.getEvictions();
+  }
+
+}
@@ -0,0 +1,143 @@
+package io.github.andersoncrocha.jpqlquerybuilder.expression;
+
+import java.util.Collection;
+import java.util.Objects;
+
+public abstract class Expression {
+
+  private static final String EQUAL = " = ";
+  private static final String NOT_EQUAL = " <> ";
+  private static final String LESS_THAN = " < ";
+  private static final String LESS_THAN_OR_EQUAL = " <= ";
+  private static final String GREATER_THAN = " > ";
+  private static final String GREATER_THAN_OR_EQUAL = " >= ";
+  private static final String LIKE = " LIKE ";
+  private static final String NOT_LIKE = " NOT LIKE ";
+  private static final String IN = " IN ";
+  private static final String NOT_IN = " NOT IN ";
+  private static final String IS_NULL = " IS NULL";
+  private static final String IS_NOT_NULL = " IS NOT NULL";
+
+  Expression() {
+  }
+
+  public abstract void appendTo(ExpressionContext context);
+
+  public Predicate eq(Object value) {
+    return this.compare(EQUAL, value);
+  }
+
+  public Predicate ne(Object value) {
+    return this.compare(NOT_EQUAL, value);
+  }
+
+  public Predicate lt(Object value) {
+    return this.compare(LESS_THAN, value);
+  }
+
+  public Predicate le(Object value) {
+    return this.compare(LESS_THAN_OR_EQUAL, value);
+  }
+
+  public Predicate gt(Object value) {
+    return this.compare(GREATER_THAN, value);
+  }
+
+  public Predicate ge(Object value) {
+    return this.compare(GREATER_THAN_OR_EQUAL, value);
+  }
+
+  public Predicate like(String pattern) {
+    return this.compare(LIKE, pattern);
+  }
+
+  public Predicate notLike(String pattern) {
+    return this.compare(NOT_LIKE, pattern);
+  }
+
+  public Predicate in(Collection<?> values) {
+    return this.membership(IN, values);
+  }
+
+  public Predicate notIn(Collection<?> values) {
+    return this.membership(NOT_IN, values);
+  }
+
+  public Predicate between(Object lowerBound, Object upperBound) {
+    Expression lower = Expressions.valueOf(lowerBound);
+    Expression upper = Expressions.valueOf(upperBound);
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        Expression.this.appendTo(context);
+        context.getQuery().append(" BETWEEN ");
+        lower.appendTo(context);
+        context.getQuery().append(" AND ");
+        upper.appendTo(context);
+      }
+    };
+  }
+
+  public Predicate isNull() {
+    return this.suffix(IS_NULL);
+  }
+
+  public Predicate isNotNull() {
+    return this.suffix(IS_NOT_NULL);
+  }
+
+  public Expression as(String alias) {
+    Objects.requireNonNull(alias, "The alias cannot be null");
+    return new Expression() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        Expression.this.appendTo(context);
+        context.getQuery().append(" AS ").append(alias);
+      }
+    };
+  }
+
+  private Predicate compare(String operator, Object value) {
+    Expression right = Expressions.valueOf(value);
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        Expression.this.appendTo(context);
+        context.getQuery().append(operator);
+        right.appendTo(context);
+      }
+    };
+  }
+
+  private Predicate membership(String operator, Collection<?> values) {
+    Objects.requireNonNull(values, "The values cannot be null");
+    Expression right = Expressions.valueOf(values);
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        Expression.this.appendTo(context);
+        context.getQuery().append(operator).append('(');
+        right.appendTo(context);
+        context.getQuery().append(')');
+      }
+    };
+  }
+
+  private Predicate suffix(String suffix) {
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        Expression.this.appendTo(context);
+        context.getQuery().append(suffix);
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    ExpressionContext context = new ExpressionContext(new StringBuilder(), 0);
+    this.appendTo(context);
+    return context.getQuery().toString();
+  }
+
+}
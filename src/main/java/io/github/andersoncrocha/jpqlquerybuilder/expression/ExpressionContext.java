@@ -0,0 +1,38 @@
+package io.github.andersoncrocha.jpqlquerybuilder.expression;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class ExpressionContext {
+
+  private static final String PARAMETER_PREFIX = "expression";
+
+  private final StringBuilder query;
+  private final Map<String, Object> parameters = new LinkedHashMap<>();
+  private int nextParameter;
+
+  public ExpressionContext(StringBuilder query, int firstParameter) {
+    this.query = query;
+    this.nextParameter = firstParameter;
+  }
+
+  public StringBuilder getQuery() {
+    return query;
+  }
+
+  public Map<String, Object> getParameters() {
+    return Collections.unmodifiableMap(parameters);
+  }
+
+  public int getNextParameter() {
+    return nextParameter;
+  }
+
+  void appendParameter(Object value) {
+    String name = PARAMETER_PREFIX + this.nextParameter++;
+    this.parameters.put(name, value);
+    this.query.append(':').append(name);
+  }
+
+}
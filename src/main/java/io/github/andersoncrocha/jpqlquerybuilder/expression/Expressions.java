@@ -0,0 +1,68 @@
+package io.github.andersoncrocha.jpqlquerybuilder.expression;
+
+import java.util.Objects;
+
+public class Expressions {
+
+  private Expressions() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  public static Path path(String path) {
+    return Path.of(path);
+  }
+
+  public static Expression value(Object value) {
+    return new Expression() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        context.appendParameter(value);
+      }
+    };
+  }
+
+  public static Expression function(String name, Object... arguments) {
+    Objects.requireNonNull(name, "The function name cannot be null");
+    Expression[] argumentExpressions = new Expression[arguments.length];
+    for (int index = 0; index < arguments.length; index++) {
+      argumentExpressions[index] = valueOf(arguments[index]);
+    }
+
+    return new Expression() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        StringBuilder query = context.getQuery();
+        query.append(name).append('(');
+        for (int index = 0; index < argumentExpressions.length; index++) {
+          if (index > 0) {
+            query.append(", ");
+          }
+          argumentExpressions[index].appendTo(context);
+        }
+        query.append(')');
+      }
+    };
+  }
+
+  public static Expression lower(Expression expression) {
+    return function("LOWER", expression);
+  }
+
+  public static Expression upper(Expression expression) {
+    return function("UPPER", expression);
+  }
+
+  public static Expression count(Expression expression) {
+    return function("COUNT", expression);
+  }
+
+  public static Expression coalesce(Object... arguments) {
+    return function("COALESCE", arguments);
+  }
+
+  // Anything that is not already an expression is bound as a query parameter, never concatenated into the query
+  static Expression valueOf(Object value) {
+    return value instanceof Expression ? (Expression) value : value(value);
+  }
+
+}
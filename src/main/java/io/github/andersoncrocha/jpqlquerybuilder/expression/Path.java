@@ -0,0 +1,40 @@
+package io.github.andersoncrocha.jpqlquerybuilder.expression;
+
+import java.util.Objects;
+
+public final class Path extends Expression {
+
+  private final String path;
+
+  private Path(String path) {
+    this.path = path;
+  }
+
+  public static Path of(String path) {
+    Objects.requireNonNull(path, "The path cannot be null");
+    return new Path(path.trim());
+  }
+
+  public static Path of(String root, String... attributes) {
+    Path path = Path.of(root);
+    for (String attribute : attributes) {
+      path = path.get(attribute);
+    }
+    return path;
+  }
+
+  public Path get(String attribute) {
+    Objects.requireNonNull(attribute, "The attribute cannot be null");
+    return new Path(this.path + '.' + attribute.trim());
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public void appendTo(ExpressionContext context) {
+    context.getQuery().append(path);
+  }
+
+}
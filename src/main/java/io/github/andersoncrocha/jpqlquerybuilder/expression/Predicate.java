@@ -0,0 +1,52 @@
+package io.github.andersoncrocha.jpqlquerybuilder.expression;
+
+import java.util.Objects;
+
+public abstract class Predicate extends Expression {
+
+  private static final String AND = " AND ";
+  private static final String OR = " OR ";
+
+  Predicate() {
+  }
+
+  public Predicate and(Predicate other) {
+    return this.combine(AND, other, false);
+  }
+
+  // OR binds weaker than the AND joining the conditions of the builder, so it is always parenthesized
+  public Predicate or(Predicate other) {
+    return this.combine(OR, other, true);
+  }
+
+  public Predicate not() {
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        context.getQuery().append("NOT (");
+        Predicate.this.appendTo(context);
+        context.getQuery().append(')');
+      }
+    };
+  }
+
+  private Predicate combine(String operator, Predicate other, boolean parenthesized) {
+    Objects.requireNonNull(other, "The predicate cannot be null");
+    return new Predicate() {
+      @Override
+      public void appendTo(ExpressionContext context) {
+        StringBuilder query = context.getQuery();
+        if (parenthesized) {
+          query.append('(');
+        }
+        Predicate.this.appendTo(context);
+        query.append(operator);
+        other.appendTo(context);
+        if (parenthesized) {
+          query.append(')');
+        }
+      }
+    };
+  }
+
+}
@@ -1,89 +1,158 @@
 package io.github.andersoncrocha.jpqlquerybuilder.mapper;
 
-import io.github.andersoncrocha.jpqlquerybuilder.annotations.TupleProperty;
-import io.github.andersoncrocha.jpqlquerybuilder.utils.ReflectionUtils;
-import io.github.andersoncrocha.jpqlquerybuilder.utils.StringUtils;
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.PojoMappingPlan.PropertyMapping;
 
-import javax.lang.model.type.NullType;
 import javax.persistence.Tuple;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import javax.persistence.TupleElement;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
-public class AliasToPojoResultMapper {
+public class AliasToPojoResultMapper<T> implements Function<Tuple, T> {
 
-  private static final Map<Class<?>, Class<?>> PRIMITIVES_TO_WRAPPERS = new HashMap<>();
+  private static final int ABSENT_COLUMN = -1;
 
-  static {
-    PRIMITIVES_TO_WRAPPERS.put(boolean.class, Boolean.class);
-    PRIMITIVES_TO_WRAPPERS.put(byte.class, Byte.class);
-    PRIMITIVES_TO_WRAPPERS.put(char.class, Character.class);
-    PRIMITIVES_TO_WRAPPERS.put(double.class, Double.class);
-    PRIMITIVES_TO_WRAPPERS.put(float.class, Float.class);
-    PRIMITIVES_TO_WRAPPERS.put(int.class, Integer.class);
-    PRIMITIVES_TO_WRAPPERS.put(long.class, Long.class);
-    PRIMITIVES_TO_WRAPPERS.put(short.class, Short.class);
-    PRIMITIVES_TO_WRAPPERS.put(void.class, Void.class);
+  private final Class<T> resultType;
+  private final boolean generatedAccessors;
+  private final boolean convertingColumns;
+  private volatile ColumnLayout<T> layout;
+
+  private AliasToPojoResultMapper(Class<T> resultType, boolean generatedAccessors, boolean convertingColumns) {
+    this.resultType = resultType;
+    this.generatedAccessors = generatedAccessors;
+    this.convertingColumns = convertingColumns;
   }
 
-  private AliasToPojoResultMapper() {
-    throw new UnsupportedOperationException("Utility class.");
+  public static <T> Function<Tuple, T> from(Class<T> resultType) {
+    return new AliasToPojoResultMapper<>(resultType, false, false);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> Class<T> wrap(Class<T> c) {
-    return c.isPrimitive() ? (Class<T>) PRIMITIVES_TO_WRAPPERS.get(c) : c;
+  public static <T> Function<Tuple, T> fromGenerated(Class<T> resultType) {
+    return new AliasToPojoResultMapper<>(resultType, true, false);
   }
 
-  public static <T> Function<Tuple, T> from(Class<T> resultType) {
-    return tuple -> AliasToPojoResultMapper.getPojoFromTuple(tuple, resultType);
+  // Native queries return the JDBC types of the driver (BigInteger, Timestamp...), so each column is converted to its
+  // property type by a converter resolved from the class of its values, and resolved again only if that class changes
+  public static <T> Function<Tuple, T> fromNative(Class<T> resultType) {
+    return new AliasToPojoResultMapper<>(resultType, true, true);
   }
 
-  private static <T> T getPojoFromTuple(Tuple tuple, Class<T> resultType) {
-    try {
-      Constructor<T> declaredConstructor = resultType.getDeclaredConstructor();
-      declaredConstructor.setAccessible(true);
-      T pojo = declaredConstructor.newInstance();
-      List<Method> setterMethods = ReflectionUtils.getSetterMethods(resultType);
-
-      for (Method setter : setterMethods) {
-        setter.setAccessible(true);
-        String propertyName = ReflectionUtils.extractPropertyNameByAccessorMethod(setter);
-        Class<?> parameterType = ReflectionUtils.extractParameterTypeByAccessorMethod(setter);
-
-        TupleProperty annotation = ReflectionUtils.getAnnotationFromProperty(
-          resultType, propertyName, TupleProperty.class
-        );
-
-        if (Objects.nonNull(annotation)) {
-          if (StringUtils.isNotBlank(annotation.value())) {
-            propertyName = annotation.value();
-          }
-
-          if (!annotation.type().isAssignableFrom(NullType.class)) {
-            parameterType = annotation.type();
-          }
-        }
+  // The column of each property is resolved once and reused while the tuples have the same columns. A tuple with
+  // other columns resolves a new layout, so one mapper can be shared between result sets and threads
+  @Override
+  public T apply(Tuple tuple) {
+    List<TupleElement<?>> elements = tuple.getElements();
+    ColumnLayout<T> columnLayout = this.layout;
+    if (columnLayout == null || !columnLayout.matches(elements)) {
+      columnLayout = this.resolveColumns(elements);
+      this.layout = columnLayout;
+    }
 
-        try {
-          setter.invoke(pojo, tuple.get(propertyName, wrap(parameterType)));
-        } catch (IllegalArgumentException exception) {
-          if (!exception.getMessage().startsWith("Unknown alias [")) {
-            throw exception;
-          }
-        }
-      }
+    PropertyMapping[] properties = columnLayout.properties;
+    int[] columnIndexes = columnLayout.columnIndexes;
+    T pojo = columnLayout.plan.newInstance();
 
+    if (convertingColumns) {
+      writeConverted(tuple, pojo, columnLayout);
       return pojo;
-    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-      String exceptionMessage = "Cannot construct an instance from %s class. Exception message: %s";
-      throw new RuntimeException(String.format(exceptionMessage, resultType.getName(), e.getMessage()));
     }
+
+    for (int index = 0; index < properties.length; index++) {
+      int columnIndex = columnIndexes[index];
+      if (columnIndex != ABSENT_COLUMN) {
+        PropertyMapping property = properties[index];
+        property.write(pojo, tuple.get(columnIndex, property.getType()));
+      }
+    }
+
+    return pojo;
+  }
+
+  private static <T> void writeConverted(Tuple tuple, T pojo, ColumnLayout<T> columnLayout) {
+    PropertyMapping[] properties = columnLayout.properties;
+    int[] columnIndexes = columnLayout.columnIndexes;
+    ColumnConversion[] conversions = columnLayout.conversions;
+
+    for (int index = 0; index < properties.length; index++) {
+      int columnIndex = columnIndexes[index];
+      if (columnIndex == ABSENT_COLUMN) {
+        continue;
+      }
+
+      Object value = tuple.get(columnIndex);
+      if (Objects.isNull(value)) {
+        continue;
+      }
+
+      ColumnConversion conversion = ColumnConversion.of(conversions[index], value, properties[index].getType());
+      conversions[index] = conversion;
+      properties[index].write(pojo, conversion.convert(value));
+    }
+  }
+
+  private ColumnLayout<T> resolveColumns(List<TupleElement<?>> elements) {
+    PojoMappingPlan<T> plan = generatedAccessors
+      ? PojoMappingPlan.generated(resultType)
+      : PojoMappingPlan.of(resultType);
+    List<PropertyMapping> planProperties = plan.getProperties();
+    int[] resolvedIndexes = new int[planProperties.size()];
+
+    for (int index = 0; index < resolvedIndexes.length; index++) {
+      resolvedIndexes[index] = findColumnIndex(elements, planProperties.get(index).getAlias());
+    }
+
+    String[] aliases = new String[elements.size()];
+    for (int index = 0; index < aliases.length; index++) {
+      aliases[index] = elements.get(index).getAlias();
+    }
+
+    return new ColumnLayout<>(plan, planProperties.toArray(new PropertyMapping[0]), resolvedIndexes, aliases);
+  }
+
+  static int findColumnIndex(List<TupleElement<?>> elements, String alias) {
+    int caseInsensitiveMatch = ABSENT_COLUMN;
+
+    for (int index = 0; index < elements.size(); index++) {
+      String elementAlias = elements.get(index).getAlias();
+      if (alias.equals(elementAlias)) {
+        return index;
+      }
+      if (caseInsensitiveMatch == ABSENT_COLUMN && alias.equalsIgnoreCase(elementAlias)) {
+        caseInsensitiveMatch = index;
+      }
+    }
+
+    return caseInsensitiveMatch;
+  }
+
+  private static class ColumnLayout<T> {
+
+    private final PojoMappingPlan<T> plan;
+    private final PropertyMapping[] properties;
+    private final int[] columnIndexes;
+    private final String[] aliases;
+    private final ColumnConversion[] conversions;
+
+    ColumnLayout(PojoMappingPlan<T> plan, PropertyMapping[] properties, int[] columnIndexes, String[] aliases) {
+      this.plan = plan;
+      this.properties = properties;
+      this.columnIndexes = columnIndexes;
+      this.aliases = aliases;
+      this.conversions = new ColumnConversion[properties.length];
+    }
+
+    boolean matches(List<TupleElement<?>> elements) {
+      if (elements.size() != aliases.length) {
+        return false;
+      }
+      for (int index = 0; index < aliases.length; index++) {
+        if (!Objects.equals(aliases[index], elements.get(index).getAlias())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
   }
 
 }
@@ -0,0 +1,29 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.ColumnConverters.ColumnConverter;
+
+import java.util.Objects;
+
+final class ColumnConversion {
+
+  private final Class<?> sourceType;
+  private final ColumnConverter converter;
+
+  private ColumnConversion(Class<?> sourceType, ColumnConverter converter) {
+    this.sourceType = sourceType;
+    this.converter = converter;
+  }
+
+  // Conversions are immutable, so a conversion cached by one thread is either seen whole by another or resolved again
+  static ColumnConversion of(ColumnConversion current, Object value, Class<?> targetType) {
+    if (Objects.nonNull(current) && current.sourceType == value.getClass()) {
+      return current;
+    }
+    return new ColumnConversion(value.getClass(), ColumnConverters.resolve(value.getClass(), targetType));
+  }
+
+  Object convert(Object value) {
+    return converter.convert(value);
+  }
+
+}
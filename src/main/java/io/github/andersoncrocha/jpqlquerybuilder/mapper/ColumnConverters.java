@@ -0,0 +1,155 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class ColumnConverters {
+
+  public static final ColumnConverter IDENTITY = value -> value;
+
+  // Target type -> source type -> converter. Sources are matched from the most specific class of the column value
+  private static final Map<Class<?>, Map<Class<?>, ColumnConverter>> CONVERTERS = new HashMap<>();
+
+  static {
+    register(Integer.class, Long.class, value -> ((Integer) value).longValue());
+    register(Long.class, Integer.class, exact(Integer.class, value -> Math.toIntExact((Long) value)));
+    register(BigInteger.class, Long.class, exact(Long.class, value -> ((BigInteger) value).longValueExact()));
+    register(BigInteger.class, Integer.class, exact(Integer.class, value -> ((BigInteger) value).intValueExact()));
+    register(Number.class, Long.class, exact(Long.class, value -> decimalOf(value).longValueExact()));
+    register(Number.class, Integer.class, exact(Integer.class, value -> decimalOf(value).intValueExact()));
+    register(Number.class, Short.class, exact(Short.class, value -> decimalOf(value).shortValueExact()));
+    register(Number.class, Byte.class, exact(Byte.class, value -> decimalOf(value).byteValueExact()));
+    register(Number.class, Double.class, value -> ((Number) value).doubleValue());
+    register(Number.class, Float.class, value -> ((Number) value).floatValue());
+    register(BigInteger.class, BigDecimal.class, value -> new BigDecimal((BigInteger) value));
+    register(Number.class, BigDecimal.class, exact(BigDecimal.class, ColumnConverters::decimalOf));
+    register(Number.class, BigInteger.class, exact(BigInteger.class, value -> decimalOf(value).toBigIntegerExact()));
+    register(Number.class, Boolean.class, exact(Boolean.class, value -> decimalOf(value).signum() != 0));
+    register(Character.class, String.class, String::valueOf);
+    register(String.class, Character.class, value -> ((String) value).isEmpty() ? null : ((String) value).charAt(0));
+
+    register(Timestamp.class, LocalDateTime.class, value -> ((Timestamp) value).toLocalDateTime());
+    register(java.sql.Date.class, LocalDateTime.class, value -> ((java.sql.Date) value).toLocalDate().atStartOfDay());
+    register(Timestamp.class, LocalDate.class, value -> ((Timestamp) value).toLocalDateTime().toLocalDate());
+    register(java.sql.Date.class, LocalDate.class, value -> ((java.sql.Date) value).toLocalDate());
+    register(Timestamp.class, LocalTime.class, value -> ((Timestamp) value).toLocalDateTime().toLocalTime());
+    register(Time.class, LocalTime.class, value -> ((Time) value).toLocalTime());
+    register(Timestamp.class, Instant.class, value -> ((Timestamp) value).toInstant());
+    register(Date.class, Instant.class, value -> Instant.ofEpochMilli(((Date) value).getTime()));
+    register(
+      Timestamp.class, OffsetDateTime.class,
+      value -> ((Timestamp) value).toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime()
+    );
+  }
+
+  private ColumnConverters() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  private static void register(Class<?> sourceType, Class<?> targetType, ColumnConverter converter) {
+    CONVERTERS.computeIfAbsent(targetType, type -> new HashMap<>()).put(sourceType, converter);
+  }
+
+  private static BigDecimal decimalOf(Object value) {
+    return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+  }
+
+  // Values that do not fit the target type fail instead of being truncated or wrapped around
+  private static ColumnConverter exact(Class<?> targetType, ColumnConverter conversion) {
+    return value -> {
+      try {
+        return conversion.convert(value);
+      } catch (ArithmeticException | NumberFormatException exception) {
+        String exceptionMessage = "Cannot convert the column value %s to %s without losing precision";
+        throw new IllegalArgumentException(
+          String.format(exceptionMessage, value, targetType.getName()), exception
+        );
+      }
+    };
+  }
+
+  public static boolean isScalar(Class<?> type) {
+    Class<?> targetType = PojoMappingPlan.wrap(type);
+    return targetType.isEnum() || targetType == String.class || Date.class.isAssignableFrom(targetType)
+      || CONVERTERS.containsKey(targetType);
+  }
+
+  // Resolved once per column, so the rows are converted without probing the type of every value
+  public static ColumnConverter resolve(Class<?> sourceType, Class<?> type) {
+    Objects.requireNonNull(sourceType, "The source type cannot be null");
+    Class<?> targetType = PojoMappingPlan.wrap(type);
+
+    if (targetType.isAssignableFrom(sourceType)) {
+      return IDENTITY;
+    }
+
+    if (targetType.isEnum()) {
+      return enumConverter(sourceType, targetType);
+    }
+
+    Map<Class<?>, ColumnConverter> sourceConverters = CONVERTERS.get(targetType);
+    if (Objects.nonNull(sourceConverters)) {
+      Deque<Class<?>> candidates = new ArrayDeque<>();
+      candidates.add(sourceType);
+      while (!candidates.isEmpty()) {
+        Class<?> candidate = candidates.poll();
+        ColumnConverter converter = sourceConverters.get(candidate);
+        if (Objects.nonNull(converter)) {
+          return converter;
+        }
+        if (Objects.nonNull(candidate.getSuperclass())) {
+          candidates.add(candidate.getSuperclass());
+        }
+      }
+    }
+
+    String exceptionMessage = "Cannot convert column values of type %s to %s";
+    throw new IllegalArgumentException(String.format(exceptionMessage, sourceType.getName(), targetType.getName()));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ColumnConverter enumConverter(Class<?> sourceType, Class<?> enumType) {
+    Object[] constants = enumType.getEnumConstants();
+    if (String.class.equals(sourceType)) {
+      return value -> Enum.valueOf((Class<? extends Enum>) enumType, (String) value);
+    }
+    if (Number.class.isAssignableFrom(sourceType)) {
+      ColumnConverter ordinalConverter = exact(Integer.class, value -> decimalOf(value).intValueExact());
+      return value -> {
+        int ordinal = (Integer) ordinalConverter.convert(value);
+        if (ordinal < 0 || ordinal >= constants.length) {
+          String exceptionMessage = "The column value %s is not an ordinal of %s, which has %d constants";
+          throw new IllegalArgumentException(
+            String.format(exceptionMessage, value, enumType.getName(), constants.length)
+          );
+        }
+        return constants[ordinal];
+      };
+    }
+
+    String exceptionMessage = "Cannot convert column values of type %s to %s";
+    throw new IllegalArgumentException(String.format(exceptionMessage, sourceType.getName(), enumType.getName()));
+  }
+
+  @FunctionalInterface
+  public interface ColumnConverter {
+
+    Object convert(Object value);
+
+  }
+
+}
@@ -0,0 +1,157 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import io.github.andersoncrocha.jpqlquerybuilder.annotations.TupleProperty;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.StringUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public final class ConstructorExpression {
+
+  private static final ClassValue<ConstructorExpression> EXPRESSIONS = new ClassValue<ConstructorExpression>() {
+    @Override
+    protected ConstructorExpression computeValue(Class<?> type) {
+      return new ConstructorExpression(type);
+    }
+  };
+  private static final Pattern ALIAS_PATTERN = Pattern.compile("\\s+AS\\s+\\w+$", Pattern.CASE_INSENSITIVE);
+  private static final String DISTINCT = "DISTINCT ";
+
+  private final Class<?> resultType;
+  private volatile List<String> paths;
+
+  private ConstructorExpression(Class<?> resultType) {
+    this.resultType = resultType;
+  }
+
+  public static ConstructorExpression of(Class<?> resultType) {
+    Objects.requireNonNull(resultType, "The result type cannot be null");
+    return EXPRESSIONS.get(resultType);
+  }
+
+  public Class<?> getResultType() {
+    return resultType;
+  }
+
+  // Resolved on first use, so an expression built from an explicit select list does not need a derivable constructor
+  public List<String> getPaths() {
+    List<String> resolvedPaths = this.paths;
+    if (resolvedPaths == null) {
+      resolvedPaths = Collections.unmodifiableList(resolvePaths(resultType));
+      this.paths = resolvedPaths;
+    }
+    return resolvedPaths;
+  }
+
+  public String render(String rootAlias) {
+    Objects.requireNonNull(rootAlias, "The root alias cannot be null");
+    List<String> paths = this.getPaths();
+    StringBuilder expression = this.openExpression();
+    for (int index = 0; index < paths.size(); index++) {
+      if (index > 0) {
+        expression.append(", ");
+      }
+      expression.append(rootAlias).append('.').append(paths.get(index));
+    }
+    return expression.append(')').toString();
+  }
+
+  // Turns an existing select list into the constructor arguments, dropping the aliases the provider would reject
+  public String render(List<String> selections) {
+    StringBuilder prefix = new StringBuilder();
+    StringBuilder expression = this.openExpression();
+    for (int index = 0; index < selections.size(); index++) {
+      String selection = ALIAS_PATTERN.matcher(selections.get(index)).replaceFirst("");
+      if (index == 0 && selection.regionMatches(true, 0, DISTINCT, 0, DISTINCT.length())) {
+        prefix.append(DISTINCT);
+        selection = selection.substring(DISTINCT.length()).trim();
+      }
+      if (index > 0) {
+        expression.append(", ");
+      }
+      expression.append(selection);
+    }
+    return prefix.append(expression).append(')').toString();
+  }
+
+  private StringBuilder openExpression() {
+    return new StringBuilder("NEW ").append(resultType.getName()).append('(');
+  }
+
+  // The arguments follow the order of the constructor parameters, matched by name, because the JVM does not
+  // guarantee the order of getDeclaredFields. The names are only available when the class is compiled with
+  // -parameters. A constructor taking every field is preferred, otherwise the single public constructor is used
+  private static List<String> resolvePaths(Class<?> resultType) {
+    Map<String, Field> fields = new HashMap<>();
+    for (Field field : resultType.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+        fields.put(field.getName(), field);
+      }
+    }
+
+    Constructor<?> selectedConstructor = null;
+    for (Constructor<?> constructor : resultType.getDeclaredConstructors()) {
+      if (takesEveryField(constructor, fields)) {
+        selectedConstructor = constructor;
+        break;
+      }
+    }
+
+    Constructor<?>[] publicConstructors = resultType.getConstructors();
+    if (Objects.isNull(selectedConstructor) && publicConstructors.length == 1
+      && publicConstructors[0].getParameterCount() > 0 && publicConstructors[0].getParameters()[0].isNamePresent()) {
+      selectedConstructor = publicConstructors[0];
+    }
+
+    if (Objects.isNull(selectedConstructor)) {
+      String exceptionMessage = "Cannot derive a constructor expression from %s class. Compile it with -parameters "
+        + "so the constructor parameters can be matched by name, or select the constructor arguments explicitly";
+      throw new IllegalArgumentException(String.format(exceptionMessage, resultType.getName()));
+    }
+
+    Parameter[] parameters = selectedConstructor.getParameters();
+    List<String> paths = new ArrayList<>(parameters.length);
+    for (Parameter parameter : parameters) {
+      TupleProperty annotation = parameter.getAnnotation(TupleProperty.class);
+      Field field = fields.get(parameter.getName());
+      if (Objects.isNull(annotation) && Objects.nonNull(field)) {
+        annotation = field.getAnnotation(TupleProperty.class);
+      }
+      paths.add(pathOf(parameter.getName(), annotation));
+    }
+    return paths;
+  }
+
+  private static boolean takesEveryField(Constructor<?> constructor, Map<String, Field> fields) {
+    Parameter[] parameters = constructor.getParameters();
+    if (parameters.length == 0 || parameters.length != fields.size() || !parameters[0].isNamePresent()) {
+      return false;
+    }
+
+    for (Parameter parameter : parameters) {
+      Field field = fields.get(parameter.getName());
+      if (Objects.isNull(field) || !field.getType().equals(parameter.getType())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String pathOf(String name, TupleProperty annotation) {
+    if (Objects.nonNull(annotation) && StringUtils.isNotBlank(annotation.path())) {
+      return annotation.path();
+    }
+    return name;
+  }
+
+}
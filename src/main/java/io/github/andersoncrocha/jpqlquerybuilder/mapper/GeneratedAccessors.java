@@ -0,0 +1,110 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import io.github.andersoncrocha.jpqlquerybuilder.mapper.PojoMappingPlan.PropertyWriter;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+class GeneratedAccessors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private GeneratedAccessors() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  // LambdaMetafactory can only spin classes for members that are reachable from this library, every other member
+  // falls back to a MethodHandle, which still avoids the argument array and access checks of Method.invoke
+  @SuppressWarnings("unchecked")
+  static <T> Supplier<T> instantiator(Constructor<T> constructor) {
+    try {
+      MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+
+      if (isLinkableByLambda(constructor)) {
+        CallSite callSite = LambdaMetafactory.metafactory(
+          LOOKUP, "get", MethodType.methodType(Supplier.class),
+          MethodType.methodType(Object.class), handle, MethodType.methodType(constructor.getDeclaringClass())
+        );
+        return (Supplier<T>) callSite.getTarget().invokeExact();
+      }
+
+      MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class));
+      return () -> {
+        try {
+          return (T) genericHandle.invokeExact();
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw PojoMappingPlan.cannotConstruct(constructor.getDeclaringClass(), new Exception(e));
+        }
+      };
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw PojoMappingPlan.cannotConstruct(constructor.getDeclaringClass(), new Exception(e));
+    }
+  }
+
+  static PropertyWriter writer(Method setter) {
+    try {
+      MethodHandle handle = LOOKUP.unreflect(setter);
+      Class<?> parameterType = PojoMappingPlan.wrap(setter.getParameterTypes()[0]);
+
+      if (isLinkableByLambda(setter)) {
+        CallSite callSite = LambdaMetafactory.metafactory(
+          LOOKUP, "write", MethodType.methodType(PropertyWriter.class),
+          MethodType.methodType(void.class, Object.class, Object.class), handle,
+          MethodType.methodType(void.class, setter.getDeclaringClass(), parameterType)
+        );
+        return (PropertyWriter) callSite.getTarget().invokeExact();
+      }
+
+      MethodHandle genericHandle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+      return (pojo, value) -> {
+        try {
+          genericHandle.invokeExact(pojo, value);
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw PojoMappingPlan.cannotConstruct(setter.getDeclaringClass(), new Exception(e));
+        }
+      };
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw PojoMappingPlan.cannotConstruct(setter.getDeclaringClass(), new Exception(e));
+    }
+  }
+
+  private static boolean isLinkableByLambda(Member member) {
+    Class<?> declaringClass = member.getDeclaringClass();
+    if (!Modifier.isPublic(member.getModifiers()) || !isPubliclyReachable(declaringClass)) {
+      return false;
+    }
+
+    try {
+      ClassLoader libraryClassLoader = GeneratedAccessors.class.getClassLoader();
+      return Class.forName(declaringClass.getName(), false, libraryClassLoader) == declaringClass;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static boolean isPubliclyReachable(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+      if (!Modifier.isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
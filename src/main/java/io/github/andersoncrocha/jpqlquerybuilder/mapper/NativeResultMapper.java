@@ -0,0 +1,42 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import javax.persistence.Tuple;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class NativeResultMapper<T> implements Function<Tuple, T> {
+
+  private final Class<T> resultType;
+  private volatile ColumnConversion conversion;
+
+  private NativeResultMapper(Class<T> resultType) {
+    this.resultType = resultType;
+  }
+
+  // Scalar types read the first column, any other type is mapped as a POJO by the alias of each column
+  @SuppressWarnings("unchecked")
+  public static <T> Function<Tuple, T> of(Class<T> resultType) {
+    Objects.requireNonNull(resultType, "The result type cannot be null");
+    if (Tuple.class.equals(resultType)) {
+      return tuple -> (T) tuple;
+    }
+    if (ColumnConverters.isScalar(resultType)) {
+      return new NativeResultMapper<>(resultType);
+    }
+    return AliasToPojoResultMapper.fromNative(resultType);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T apply(Tuple tuple) {
+    Object value = tuple.get(0);
+    if (Objects.isNull(value)) {
+      return null;
+    }
+
+    ColumnConversion columnConversion = ColumnConversion.of(this.conversion, value, resultType);
+    this.conversion = columnConversion;
+    return (T) columnConversion.convert(value);
+  }
+
+}
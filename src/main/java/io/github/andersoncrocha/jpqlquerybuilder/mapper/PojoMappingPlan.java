@@ -0,0 +1,246 @@
+package io.github.andersoncrocha.jpqlquerybuilder.mapper;
+
+import io.github.andersoncrocha.jpqlquerybuilder.annotations.TupleProperty;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.LruCache;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.ReflectionUtils;
+import io.github.andersoncrocha.jpqlquerybuilder.utils.StringUtils;
+
+import javax.lang.model.type.NullType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class PojoMappingPlan<T> {
+
+  private static final int MAXIMUM_CACHED_SELECTIONS = 16;
+  // A plan is stored on its class, so it goes away with the class loader of the class instead of pinning it
+  private static final ClassValue<PojoMappingPlan<?>> REFLECTIVE_PLANS = new ClassValue<PojoMappingPlan<?>>() {
+    @Override
+    protected PojoMappingPlan<?> computeValue(Class<?> type) {
+      return new PojoMappingPlan<>(type, false);
+    }
+  };
+  private static final ClassValue<PojoMappingPlan<?>> GENERATED_PLANS = new ClassValue<PojoMappingPlan<?>>() {
+    @Override
+    protected PojoMappingPlan<?> computeValue(Class<?> type) {
+      return new PojoMappingPlan<>(type, true);
+    }
+  };
+  private static final Map<Class<?>, Class<?>> PRIMITIVES_TO_WRAPPERS = new HashMap<>();
+
+  static {
+    PRIMITIVES_TO_WRAPPERS.put(boolean.class, Boolean.class);
+    PRIMITIVES_TO_WRAPPERS.put(byte.class, Byte.class);
+    PRIMITIVES_TO_WRAPPERS.put(char.class, Character.class);
+    PRIMITIVES_TO_WRAPPERS.put(double.class, Double.class);
+    PRIMITIVES_TO_WRAPPERS.put(float.class, Float.class);
+    PRIMITIVES_TO_WRAPPERS.put(int.class, Integer.class);
+    PRIMITIVES_TO_WRAPPERS.put(long.class, Long.class);
+    PRIMITIVES_TO_WRAPPERS.put(short.class, Short.class);
+    PRIMITIVES_TO_WRAPPERS.put(void.class, Void.class);
+  }
+
+  private final Class<T> resultType;
+  private final Supplier<T> instantiator;
+  private final List<PropertyMapping> properties;
+  private final LruCache<String, String> selections = new LruCache<>(MAXIMUM_CACHED_SELECTIONS);
+
+  private PojoMappingPlan(Class<T> resultType, boolean generatedAccessors) {
+    try {
+      this.resultType = resultType;
+      Constructor<T> constructor = resultType.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      this.instantiator = generatedAccessors
+        ? GeneratedAccessors.instantiator(constructor)
+        : reflectiveInstantiator(constructor);
+      this.properties = Collections.unmodifiableList(this.resolveProperties(resultType, generatedAccessors));
+    } catch (NoSuchMethodException e) {
+      throw cannotConstruct(resultType, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> PojoMappingPlan<T> of(Class<T> resultType) {
+    Objects.requireNonNull(resultType, "The result type cannot be null");
+    return (PojoMappingPlan<T>) REFLECTIVE_PLANS.get(resultType);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> PojoMappingPlan<T> generated(Class<T> resultType) {
+    Objects.requireNonNull(resultType, "The result type cannot be null");
+    return (PojoMappingPlan<T>) GENERATED_PLANS.get(resultType);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Class<T> wrap(Class<T> c) {
+    return c.isPrimitive() ? (Class<T>) PRIMITIVES_TO_WRAPPERS.get(c) : c;
+  }
+
+  public Class<T> getResultType() {
+    return resultType;
+  }
+
+  public List<PropertyMapping> getProperties() {
+    return properties;
+  }
+
+  // Selects the path of every property under its alias, so the query returns only the columns the mapper reads
+  public String getSelection(String rootAlias) {
+    Objects.requireNonNull(rootAlias, "The root alias cannot be null");
+    return this.selections.get(rootAlias, this::renderSelection);
+  }
+
+  private String renderSelection(String rootAlias) {
+    if (properties.isEmpty()) {
+      String exceptionMessage = "The %s class has no properties to select";
+      throw new IllegalArgumentException(String.format(exceptionMessage, resultType.getName()));
+    }
+
+    StringBuilder selection = new StringBuilder();
+    for (PropertyMapping property : properties) {
+      if (selection.length() > 0) {
+        selection.append(", ");
+      }
+      selection.append(rootAlias).append('.').append(property.getPath())
+        .append(" AS ").append(property.getAlias());
+    }
+    return selection.toString();
+  }
+
+  public T newInstance() {
+    return this.instantiator.get();
+  }
+
+  static RuntimeException cannotConstruct(Class<?> resultType, Exception e) {
+    String exceptionMessage = "Cannot construct an instance from %s class. Exception message: %s";
+    return new RuntimeException(String.format(exceptionMessage, resultType.getName(), e.getMessage()));
+  }
+
+  private static <T> Supplier<T> reflectiveInstantiator(Constructor<T> constructor) {
+    return () -> {
+      try {
+        return constructor.newInstance();
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        throw cannotConstruct(constructor.getDeclaringClass(), e);
+      }
+    };
+  }
+
+  private static PropertyWriter reflectiveWriter(Method setter) {
+    return (pojo, value) -> {
+      try {
+        setter.invoke(pojo, value);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw cannotConstruct(setter.getDeclaringClass(), e);
+      }
+    };
+  }
+
+  private List<PropertyMapping> resolveProperties(Class<T> resultType, boolean generatedAccessors) {
+    List<Method> setterMethods = ReflectionUtils.getSetterMethods(resultType);
+    List<PropertyMapping> resolvedProperties = new ArrayList<>(setterMethods.size());
+
+    for (Method setter : setterMethods) {
+      setter.setAccessible(true);
+      String propertyName = ReflectionUtils.extractPropertyNameByAccessorMethod(setter);
+      String alias = propertyName;
+      String path = propertyName;
+      Class<?> parameterType = ReflectionUtils.extractParameterTypeByAccessorMethod(setter);
+
+      TupleProperty annotation = ReflectionUtils.getAnnotationFromProperty(
+        resultType, propertyName, TupleProperty.class
+      );
+
+      if (Objects.nonNull(annotation)) {
+        if (StringUtils.isNotBlank(annotation.value())) {
+          alias = annotation.value();
+        }
+
+        if (StringUtils.isNotBlank(annotation.path())) {
+          path = annotation.path();
+        }
+
+        if (!annotation.type().isAssignableFrom(NullType.class)) {
+          parameterType = annotation.type();
+        }
+      }
+
+      PropertyWriter writer = generatedAccessors
+        ? GeneratedAccessors.writer(setter)
+        : reflectiveWriter(setter);
+      resolvedProperties.add(new PropertyMapping(setter, propertyName, path, alias, wrap(parameterType), writer));
+    }
+
+    return resolvedProperties;
+  }
+
+  public static class PropertyMapping {
+
+    private final Method setter;
+    private final String propertyName;
+    private final String path;
+    private final String alias;
+    private final Class<?> type;
+    private final PropertyWriter writer;
+    private final boolean primitive;
+
+    PropertyMapping(Method setter, String propertyName, String path, String alias, Class<?> type,
+                    PropertyWriter writer) {
+      this.setter = setter;
+      this.propertyName = propertyName;
+      this.path = path;
+      this.alias = alias;
+      this.type = type;
+      this.writer = writer;
+      this.primitive = setter.getParameterTypes()[0].isPrimitive();
+    }
+
+    public Method getSetter() {
+      return setter;
+    }
+
+    public String getPropertyName() {
+      return propertyName;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public String getAlias() {
+      return alias;
+    }
+
+    public Class<?> getType() {
+      return type;
+    }
+
+    // Checked here so both backends reject a null primitive the same way: Method.invoke would throw an
+    // IllegalArgumentException and the generated accessors a NullPointerException while unboxing
+    public void write(Object pojo, Object value) {
+      if (primitive && Objects.isNull(value)) {
+        String exceptionMessage = "Cannot write null to the primitive property '%s' of %s class";
+        throw new IllegalArgumentException(
+          String.format(exceptionMessage, propertyName, setter.getDeclaringClass().getName())
+        );
+      }
+      this.writer.write(pojo, value);
+    }
+
+  }
+
+  @FunctionalInterface
+  interface PropertyWriter {
+
+    void write(Object pojo, Object value);
+
+  }
+
+}
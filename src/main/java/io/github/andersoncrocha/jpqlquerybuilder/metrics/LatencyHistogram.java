@@ -0,0 +1,94 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+  // Every power of two is split into 8 buckets, so a recorded value is reported with at most 12.5% of error
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(long value) {
+    long recordedValue = Math.max(0, value);
+    this.buckets.incrementAndGet(bucketIndex(recordedValue));
+    this.count.increment();
+    this.sum.add(recordedValue);
+
+    long currentMax = this.max.get();
+    while (recordedValue > currentMax && !this.max.compareAndSet(currentMax, recordedValue)) {
+      currentMax = this.max.get();
+    }
+  }
+
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  public long getMax() {
+    return this.max.get();
+  }
+
+  public double getMean() {
+    long recordedCount = this.getCount();
+    return recordedCount == 0 ? 0 : (double) this.sum.sum() / recordedCount;
+  }
+
+  // Returns the highest value of the bucket holding the percentile, capped by the highest recorded value
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("The percentile must be between 0 and 100");
+    }
+
+    long recordedCount = this.getCount();
+    if (recordedCount == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recordedCount));
+    long accumulated = 0;
+    for (int index = 0; index < BUCKETS; index++) {
+      accumulated += this.buckets.get(index);
+      if (accumulated >= rank) {
+        return Math.min(bucketUpperBound(index), this.getMax());
+      }
+    }
+    return this.getMax();
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    if (index == BUCKETS - 1) {
+      return Long.MAX_VALUE;
+    }
+    return bucketLowerBound(index + 1) - 1;
+  }
+
+  private static long bucketLowerBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int exponent = (index >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+    long subBucket = index & (SUB_BUCKETS - 1);
+    return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+}
@@ -0,0 +1,59 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+public final class QueryExecutionEvent {
+
+  private final String queryString;
+  private final String fingerprint;
+  private final long renderNanos;
+  private final long executionNanos;
+  private final long mappingNanos;
+  private final int rowCount;
+
+  public QueryExecutionEvent(
+    String queryString, String fingerprint, long renderNanos, long executionNanos, long mappingNanos, int rowCount
+  ) {
+    this.queryString = queryString;
+    this.fingerprint = fingerprint;
+    this.renderNanos = renderNanos;
+    this.executionNanos = executionNanos;
+    this.mappingNanos = mappingNanos;
+    this.rowCount = rowCount;
+  }
+
+  public String getQueryString() {
+    return queryString;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public long getRenderNanos() {
+    return renderNanos;
+  }
+
+  public long getExecutionNanos() {
+    return executionNanos;
+  }
+
+  public long getMappingNanos() {
+    return mappingNanos;
+  }
+
+  public long getTotalNanos() {
+    return renderNanos + executionNanos + mappingNanos;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "QueryExecutionEvent{fingerprint=%s, renderNanos=%d, executionNanos=%d, mappingNanos=%d, rowCount=%d}",
+      fingerprint, renderNanos, executionNanos, mappingNanos, rowCount
+    );
+  }
+
+}
@@ -0,0 +1,18 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+import java.util.Objects;
+
+@FunctionalInterface
+public interface QueryListener {
+
+  void onQueryExecuted(QueryExecutionEvent event);
+
+  default QueryListener andThen(QueryListener next) {
+    Objects.requireNonNull(next, "The next listener cannot be null");
+    return event -> {
+      this.onQueryExecuted(event);
+      next.onQueryExecuted(event);
+    };
+  }
+
+}
@@ -0,0 +1,34 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class QueryMetrics implements QueryListener {
+
+  private final Map<String, ShapeMetrics> shapes = new ConcurrentHashMap<>();
+
+  @Override
+  public void onQueryExecuted(QueryExecutionEvent event) {
+    ShapeMetrics shapeMetrics = this.shapes.get(event.getFingerprint());
+    if (shapeMetrics == null) {
+      shapeMetrics = this.shapes.computeIfAbsent(
+        event.getFingerprint(), fingerprint -> new ShapeMetrics(fingerprint, event.getQueryString())
+      );
+    }
+    shapeMetrics.record(event);
+  }
+
+  public ShapeMetrics getShapeMetrics(String fingerprint) {
+    return this.shapes.get(fingerprint);
+  }
+
+  public Map<String, ShapeMetrics> getShapeMetrics() {
+    return Collections.unmodifiableMap(shapes);
+  }
+
+  public void clear() {
+    this.shapes.clear();
+  }
+
+}
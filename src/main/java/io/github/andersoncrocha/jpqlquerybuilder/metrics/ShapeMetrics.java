@@ -0,0 +1,60 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class ShapeMetrics {
+
+  private final String fingerprint;
+  private final String queryString;
+  private final LatencyHistogram totalNanos = new LatencyHistogram();
+  private final LongAdder renderNanos = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+  private final LongAdder mappingNanos = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+
+  ShapeMetrics(String fingerprint, String queryString) {
+    this.fingerprint = fingerprint;
+    this.queryString = queryString;
+  }
+
+  void record(QueryExecutionEvent event) {
+    this.totalNanos.record(event.getTotalNanos());
+    this.renderNanos.add(event.getRenderNanos());
+    this.executionNanos.add(event.getExecutionNanos());
+    this.mappingNanos.add(event.getMappingNanos());
+    this.rows.add(event.getRowCount());
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public String getQueryString() {
+    return queryString;
+  }
+
+  public LatencyHistogram getTotalNanos() {
+    return totalNanos;
+  }
+
+  public long getExecutions() {
+    return this.totalNanos.getCount();
+  }
+
+  public long getRenderNanos() {
+    return this.renderNanos.sum();
+  }
+
+  public long getExecutionNanos() {
+    return this.executionNanos.sum();
+  }
+
+  public long getMappingNanos() {
+    return this.mappingNanos.sum();
+  }
+
+  public long getRows() {
+    return this.rows.sum();
+  }
+
+}
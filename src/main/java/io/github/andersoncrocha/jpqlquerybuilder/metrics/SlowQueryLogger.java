@@ -0,0 +1,44 @@
+package io.github.andersoncrocha.jpqlquerybuilder.metrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class SlowQueryLogger implements QueryListener {
+
+  private static final Logger DEFAULT_LOGGER = Logger.getLogger(SlowQueryLogger.class.getName());
+
+  private final long thresholdNanos;
+  private final Logger logger;
+
+  public SlowQueryLogger(Duration threshold) {
+    this(threshold, DEFAULT_LOGGER);
+  }
+
+  public SlowQueryLogger(Duration threshold, Logger logger) {
+    Objects.requireNonNull(threshold, "The threshold cannot be null");
+    this.thresholdNanos = threshold.toNanos();
+    this.logger = Objects.requireNonNull(logger, "The logger cannot be null");
+  }
+
+  @Override
+  public void onQueryExecuted(QueryExecutionEvent event) {
+    if (event.getTotalNanos() < thresholdNanos) {
+      return;
+    }
+
+    this.logger.log(Level.WARNING, () -> String.format(
+      "Slow query %s took %d ms (render: %d ms, execution: %d ms, mapping: %d ms, rows: %d): %s",
+      event.getFingerprint(),
+      TimeUnit.NANOSECONDS.toMillis(event.getTotalNanos()),
+      TimeUnit.NANOSECONDS.toMillis(event.getRenderNanos()),
+      TimeUnit.NANOSECONDS.toMillis(event.getExecutionNanos()),
+      TimeUnit.NANOSECONDS.toMillis(event.getMappingNanos()),
+      event.getRowCount(),
+      event.getQueryString()
+    ));
+  }
+
+}
@@ -0,0 +1,33 @@
+package io.github.andersoncrocha.jpqlquerybuilder.operations;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+public class Delete extends Statement {
+
+  public Delete(String target, String alias) {
+    super(target, alias);
+  }
+
+  private Delete(Delete delete) {
+    super(delete);
+  }
+
+  @Override
+  public Delete copy() {
+    return new Delete(this);
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    query.append("DELETE FROM ");
+    this.appendTarget(query);
+    query.append(' ');
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    this.describeTarget(shape, QueryOperator.DELETE);
+  }
+
+}
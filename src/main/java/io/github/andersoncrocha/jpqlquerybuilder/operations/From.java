@@ -1,5 +1,8 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
 import java.util.Objects;
 
 public class From implements QueryOperation {
@@ -12,17 +15,26 @@ public class From implements QueryOperation {
     this.alias = alias;
   }
 
+  public String getTable() {
+    return from;
+  }
+
   public String getAlias() {
     return alias;
   }
 
   @Override
-  public String getOperation() {
-    StringBuilder fromClause = new StringBuilder("FROM ").append(from);
+  public void appendTo(StringBuilder query) {
+    query.append("FROM ").append(from);
     if (Objects.nonNull(alias)) {
-      fromClause.append(" AS ").append(alias);
+      query.append(" AS ").append(alias);
     }
-    return fromClause.append(" ").toString();
+    query.append(' ');
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(QueryOperator.FROM).add(from).add(alias);
   }
 
 }
@@ -1,5 +1,9 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -12,10 +16,28 @@ public class GroupBy implements QueryOperation {
     this.fields = this.prepareFields(fields);
   }
 
+  public Set<String> getFields() {
+    return Collections.unmodifiableSet(fields);
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    query.append("GROUP BY ");
+    boolean firstField = true;
+    for (String field : fields) {
+      if (!firstField) {
+        query.append(", ");
+      }
+      query.append(field);
+      firstField = false;
+    }
+    query.append(' ');
+  }
+
   @Override
-  public String getOperation() {
-    String joinedFields = String.join(", ", this.fields);
-    return String.format("GROUP BY %s ", joinedFields);
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(QueryOperator.GROUP_BY);
+    this.fields.forEach(shape::add);
   }
 
   private Set<String> prepareFields(String fields) {
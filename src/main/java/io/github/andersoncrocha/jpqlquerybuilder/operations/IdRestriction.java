@@ -0,0 +1,26 @@
+package io.github.andersoncrocha.jpqlquerybuilder.operations;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+public class IdRestriction implements QueryOperation {
+
+  public static final String PARAMETER_NAME = "restrictedIds";
+
+  private final String idPath;
+
+  public IdRestriction(String idPath) {
+    this.idPath = idPath;
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    query.append(idPath).append(" IN (:").append(PARAMETER_NAME).append(')');
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(QueryOperator.WHERE).add(idPath);
+  }
+
+}
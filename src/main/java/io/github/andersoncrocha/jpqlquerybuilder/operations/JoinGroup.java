@@ -1,26 +1,107 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.JoinType;
 import io.github.andersoncrocha.jpqlquerybuilder.utils.QueryUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 public class JoinGroup implements QueryOperation {
 
-  private final List<QueryOperation> joins = new ArrayList<>();
+  private List<Join> joins;
+  private boolean shared;
+
+  public JoinGroup() {
+    this.joins = new ArrayList<>();
+  }
+
+  public JoinGroup(List<Join> joins) {
+    this.joins = new ArrayList<>(joins);
+  }
+
+  private JoinGroup(JoinGroup joinGroup) {
+    this.joins = joinGroup.joins;
+    this.shared = true;
+  }
+
+  public JoinGroup copy() {
+    if (!shared) {
+      this.shared = true;
+    }
+    return new JoinGroup(this);
+  }
 
   public void join(Join join) {
+    if (shared) {
+      this.joins = new ArrayList<>(joins);
+      this.shared = false;
+    }
     this.joins.add(join);
   }
 
+  public List<Join> getJoins() {
+    return Collections.unmodifiableList(joins);
+  }
+
+  public JoinGroup withoutFetch() {
+    List<Join> plainJoins = new ArrayList<>(joins.size());
+    for (Join join : joins) {
+      plainJoins.add(join.withType(join.getType().withoutFetch()));
+    }
+    return new JoinGroup(plainJoins);
+  }
+
+  // Walks the joins backwards so a left join is kept when a later kept join, or any of the given clauses, uses its
+  // alias
+  public JoinGroup withoutUnreferencedLeftJoins(List<String> referencingClauses) {
+    List<String> references = new ArrayList<>(referencingClauses);
+    List<Join> referencedJoins = new ArrayList<>(joins.size());
+
+    for (int index = joins.size() - 1; index >= 0; index--) {
+      Join join = joins.get(index);
+      String alias = join.getAlias();
+      boolean prunable = join.getType().withoutFetch() == JoinType.LEFT && (alias == null
+        || references.stream().noneMatch(reference -> QueryUtils.isAliasReferenced(alias, reference)));
+
+      if (!prunable) {
+        referencedJoins.add(0, join);
+        references.add(join.getTarget());
+      }
+    }
+
+    return new JoinGroup(referencedJoins);
+  }
+
+  public JoinGroup withAlias(String alias, String replacement) {
+    List<Join> renamedJoins = new ArrayList<>(joins.size());
+    for (Join join : joins) {
+      renamedJoins.add(new Join(QueryUtils.replaceAlias(join.getTarget(), alias, replacement), join.getType()));
+    }
+    return new JoinGroup(renamedJoins);
+  }
+
+  public boolean isAliasReferenced(String alias) {
+    return joins.stream().anyMatch(join -> QueryUtils.isAliasReferenced(alias, join.getTarget()));
+  }
+
   @Override
-  public String getOperation() {
-    return QueryUtils.joinOperations(joins);
+  public void appendTo(StringBuilder query) {
+    QueryUtils.appendOperations(query, joins);
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    this.joins.forEach(join -> join.describeShape(shape));
   }
 
   public static class Join implements QueryOperation {
 
+    private static final Pattern CONDITION_SEPARATOR = Pattern.compile("\\s+ON\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     private final String target;
     private final JoinType type;
 
@@ -29,9 +110,37 @@ public class JoinGroup implements QueryOperation {
       this.type = type;
     }
 
+    public String getTarget() {
+      return target;
+    }
+
+    public JoinType getType() {
+      return type;
+    }
+
+    public Join withType(JoinType type) {
+      return type == this.type ? this : new Join(target, type);
+    }
+
+    public String getAlias() {
+      String joinedPath = CONDITION_SEPARATOR.split(target.trim(), 2)[0];
+      String[] tokens = WHITESPACES.split(joinedPath.trim());
+
+      if (tokens.length > 2 && "AS".equalsIgnoreCase(tokens[1])) {
+        return tokens[2];
+      }
+
+      return tokens.length > 1 ? tokens[1] : null;
+    }
+
+    @Override
+    public void appendTo(StringBuilder query) {
+      query.append(type.getValue()).append(' ').append(target);
+    }
+
     @Override
-    public String getOperation() {
-      return String.format("%s %s", type.getValue(), target);
+    public void describeShape(QueryShape.Builder shape) {
+      shape.add(type).add(target);
     }
 
   }
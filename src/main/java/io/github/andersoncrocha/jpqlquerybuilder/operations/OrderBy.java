@@ -1,8 +1,11 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.SortDirection;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -10,43 +13,78 @@ import java.util.stream.Stream;
 
 public class OrderBy implements QueryOperation {
 
-  private final Map<String, SortDirection> fields;
+  private Map<String, SortDirection> fields;
+  private boolean shared;
 
   public OrderBy(String fields) {
     this.fields = this.prepareFields(fields);
   }
 
   public OrderBy(String field, SortDirection sortDirection) {
-    this.fields = new HashMap<>();
+    this.fields = new LinkedHashMap<>();
     this.fields.put(field, sortDirection);
   }
 
+  private OrderBy(OrderBy orderBy) {
+    this.fields = orderBy.fields;
+    this.shared = true;
+  }
+
+  public OrderBy copy() {
+    if (!shared) {
+      this.shared = true;
+    }
+    return new OrderBy(this);
+  }
+
   public void addOrderBy(String fields) {
     Map<String, SortDirection> preparedFields = this.prepareFields(fields);
-    this.fields.putAll(preparedFields);
+    this.exclusiveFields().putAll(preparedFields);
   }
 
   public void addOrderBy(String field, SortDirection sortDirection) {
-    this.fields.put(field, sortDirection);
+    this.exclusiveFields().put(field, sortDirection);
+  }
+
+  private Map<String, SortDirection> exclusiveFields() {
+    if (shared) {
+      this.fields = new LinkedHashMap<>(fields);
+      this.shared = false;
+    }
+    return fields;
+  }
+
+  public Map<String, SortDirection> getFields() {
+    return Collections.unmodifiableMap(fields);
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    query.append("ORDER BY ");
+    boolean firstField = true;
+    for (Map.Entry<String, SortDirection> field : fields.entrySet()) {
+      if (!firstField) {
+        query.append(", ");
+      }
+      query.append(field.getKey()).append(' ').append(field.getValue().name());
+      firstField = false;
+    }
+    query.append(' ');
   }
 
   @Override
-  public String getOperation() {
-    String joinedFields = this.fields.entrySet()
-            .stream()
-            .map(entry -> {
-              String field = entry.getKey();
-              SortDirection sortDirection = entry.getValue();
-              return String.format("%s %s", field, sortDirection.name());
-            }).collect(Collectors.joining(", "));
-    return String.format("ORDER BY %s ", joinedFields);
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(QueryOperator.ORDER_BY);
+    this.fields.forEach((field, sortDirection) -> shape.add(field).add(sortDirection));
   }
 
   private Map<String, SortDirection> prepareFields(String fields) {
     String[] separatedFields = fields.split(",");
     return Stream.of(separatedFields)
       .map(String::trim)
-      .collect(Collectors.toMap(Function.identity(), field -> SortDirection.ASC));
+      .collect(Collectors.toMap(
+        Function.identity(), field -> SortDirection.ASC, (first, second) -> first, LinkedHashMap::new
+      ));
   }
 
 }
@@ -1,7 +1,17 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+
 public interface QueryOperation {
 
-  String getOperation();
+  default String getOperation() {
+    StringBuilder operation = new StringBuilder();
+    this.appendTo(operation);
+    return operation.toString();
+  }
+
+  void appendTo(StringBuilder query);
+
+  void describeShape(QueryShape.Builder shape);
 
 }
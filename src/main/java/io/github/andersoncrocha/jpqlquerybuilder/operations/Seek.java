@@ -0,0 +1,100 @@
+package io.github.andersoncrocha.jpqlquerybuilder.operations;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.SortDirection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class Seek implements QueryOperation {
+
+  private static final String PARAMETER_PREFIX = "seek";
+
+  private final List<String> fields;
+  private final List<SortDirection> sortDirections;
+  private final boolean rowValueComparison;
+
+  public Seek(OrderBy orderBy, int numberOfValues, boolean nativeQuery) {
+    Objects.requireNonNull(orderBy, "Keyset pagination requires an 'order by' clause");
+    Map<String, SortDirection> orderByFields = orderBy.getFields();
+
+    if (orderByFields.size() != numberOfValues) {
+      String exceptionMessage = "Keyset pagination received %d values but the query is ordered by %d fields";
+      throw new IllegalArgumentException(String.format(exceptionMessage, numberOfValues, orderByFields.size()));
+    }
+
+    this.fields = new ArrayList<>(orderByFields.keySet());
+    this.sortDirections = new ArrayList<>(orderByFields.values());
+    this.rowValueComparison = nativeQuery && fields.size() > 1 && this.sortDirections.stream().distinct().count() == 1;
+  }
+
+  public static String parameterName(int index) {
+    return PARAMETER_PREFIX + index;
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    if (rowValueComparison) {
+      this.appendRowValuePredicate(query);
+    } else {
+      this.appendExpandedPredicate(query);
+    }
+  }
+
+  // (a, b) > (:seek0, :seek1), only used by native queries whose fields are all sorted in the same direction
+  private void appendRowValuePredicate(StringBuilder query) {
+    query.append('(');
+    for (int index = 0; index < fields.size(); index++) {
+      query.append(index > 0 ? ", " : "").append(fields.get(index));
+    }
+
+    query.append(") ").append(comparator(sortDirections.get(0))).append(" (");
+    for (int index = 0; index < fields.size(); index++) {
+      query.append(index > 0 ? ", :" : ":").append(PARAMETER_PREFIX).append(index);
+    }
+    query.append(')');
+  }
+
+  // (a > :seek0 OR (a = :seek0 AND b > :seek1)), which JPQL accepts since it has no row value comparison
+  private void appendExpandedPredicate(StringBuilder predicate) {
+    predicate.append('(');
+
+    for (int index = 0; index < fields.size(); index++) {
+      if (index > 0) {
+        predicate.append(" OR ");
+      }
+
+      boolean hasEqualities = index > 0;
+      if (hasEqualities) {
+        predicate.append('(');
+      }
+
+      for (int previous = 0; previous < index; previous++) {
+        predicate.append(fields.get(previous)).append(" = :").append(PARAMETER_PREFIX).append(previous).append(" AND ");
+      }
+
+      predicate.append(fields.get(index)).append(' ')
+        .append(comparator(sortDirections.get(index)))
+        .append(" :").append(PARAMETER_PREFIX).append(index);
+
+      if (hasEqualities) {
+        predicate.append(')');
+      }
+    }
+
+    predicate.append(')');
+  }
+
+  private static String comparator(SortDirection sortDirection) {
+    return sortDirection == SortDirection.ASC ? ">" : "<";
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(PARAMETER_PREFIX).add(rowValueComparison);
+    this.fields.forEach(shape::add);
+  }
+
+}
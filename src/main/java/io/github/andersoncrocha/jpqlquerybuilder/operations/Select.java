@@ -1,5 +1,10 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -7,22 +12,64 @@ import java.util.stream.Stream;
 
 public class Select implements QueryOperation {
 
-  private final List<String> fields;
+  private List<String> fields;
+  private boolean shared;
 
   public Select(String fields) {
     this.fields = this.prepareFields(fields);
   }
 
+  public Select(List<String> fields) {
+    this.fields = new ArrayList<>(fields);
+  }
+
+  private Select(Select select) {
+    this.fields = select.fields;
+    this.shared = true;
+  }
+
+  public Select copy() {
+    if (!shared) {
+      this.shared = true;
+    }
+    return new Select(this);
+  }
+
+  public List<String> getFields() {
+    return Collections.unmodifiableList(fields);
+  }
+
   public void addSelect(String fields) {
     Objects.requireNonNull(fields, "addSelect() cannot be called before select() method");
     List<String> preparedFields = this.prepareFields(fields);
-    this.fields.addAll(preparedFields);
+    this.addSelect(preparedFields);
+  }
+
+  // Fields that are already separated, such as rendered expressions, skip the split on commas
+  public void addSelect(List<String> fields) {
+    if (shared) {
+      this.fields = new ArrayList<>(this.fields);
+      this.shared = false;
+    }
+    this.fields.addAll(fields);
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    query.append("SELECT ");
+    for (int index = 0; index < fields.size(); index++) {
+      if (index > 0) {
+        query.append(", ");
+      }
+      query.append(fields.get(index));
+    }
+    query.append(' ');
   }
 
   @Override
-  public String getOperation() {
-    String joinedFields = String.join(", ", this.fields);
-    return String.format("SELECT %s ", joinedFields);
+  public void describeShape(QueryShape.Builder shape) {
+    shape.add(QueryOperator.SELECT);
+    this.fields.forEach(shape::add);
   }
 
   private List<String> prepareFields(String fields) {
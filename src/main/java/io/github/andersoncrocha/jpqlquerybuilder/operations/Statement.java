@@ -0,0 +1,57 @@
+package io.github.andersoncrocha.jpqlquerybuilder.operations;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+import java.util.Objects;
+
+public abstract class Statement implements QueryOperation {
+
+  private static final String DEFAULT_ID_ATTRIBUTE = "id";
+
+  private final String target;
+  private final String alias;
+  private String idAttribute = DEFAULT_ID_ATTRIBUTE;
+
+  protected Statement(String target, String alias) {
+    this.target = target;
+    this.alias = alias;
+  }
+
+  protected Statement(Statement statement) {
+    this.target = statement.target;
+    this.alias = statement.alias;
+    this.idAttribute = statement.idAttribute;
+  }
+
+  public abstract Statement copy();
+
+  // The attribute that identifies the affected rows when the statement has joins or runs in chunks
+  public void setIdAttribute(String idAttribute) {
+    this.idAttribute = Objects.requireNonNull(idAttribute, "The id attribute cannot be null");
+  }
+
+  public String getIdPath() {
+    return this.getIdPath(alias);
+  }
+
+  public String getIdPath(String alias) {
+    return Objects.isNull(alias) ? idAttribute : alias + "." + idAttribute;
+  }
+
+  public String getAlias() {
+    return alias;
+  }
+
+  protected void appendTarget(StringBuilder query) {
+    query.append(target);
+    if (Objects.nonNull(alias)) {
+      query.append(" AS ").append(alias);
+    }
+  }
+
+  protected void describeTarget(QueryShape.Builder shape, QueryOperator kind) {
+    shape.add(kind).add(idAttribute).add(target).add(alias);
+  }
+
+}
@@ -0,0 +1,67 @@
+package io.github.andersoncrocha.jpqlquerybuilder.operations;
+
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
+import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class Update extends Statement {
+
+  private List<String> assignments;
+  private boolean shared;
+
+  public Update(String target, String alias) {
+    super(target, alias);
+    this.assignments = new ArrayList<>();
+  }
+
+  private Update(Update update) {
+    super(update);
+    this.assignments = update.assignments;
+    this.shared = true;
+  }
+
+  @Override
+  public Update copy() {
+    if (!shared) {
+      this.shared = true;
+    }
+    return new Update(this);
+  }
+
+  public void set(String assignment) {
+    Objects.requireNonNull(assignment, "The assignment cannot be null");
+    if (shared) {
+      this.assignments = new ArrayList<>(this.assignments);
+      this.shared = false;
+    }
+    this.assignments.add(assignment.trim());
+  }
+
+  @Override
+  public void appendTo(StringBuilder query) {
+    if (assignments.isEmpty()) {
+      throw new IllegalStateException("It is not allowed to create an update without 'set' clauses");
+    }
+
+    query.append("UPDATE ");
+    this.appendTarget(query);
+    query.append(" SET ");
+    for (int index = 0; index < assignments.size(); index++) {
+      if (index > 0) {
+        query.append(", ");
+      }
+      query.append(assignments.get(index));
+    }
+    query.append(' ');
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    this.describeTarget(shape, QueryOperator.UPDATE);
+    this.assignments.forEach(shape::add);
+  }
+
+}
@@ -1,60 +1,231 @@
 package io.github.andersoncrocha.jpqlquerybuilder.operations;
 
+import io.github.andersoncrocha.jpqlquerybuilder.cache.QueryShape;
 import io.github.andersoncrocha.jpqlquerybuilder.operations.types.QueryOperator;
 import io.github.andersoncrocha.jpqlquerybuilder.utils.QueryUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
 public class WhereGroup implements QueryOperation {
 
-  final List<QueryOperation> wheres = new ArrayList<>();
-  final Map<String, Object> parameters = new HashMap<>();
+  private static final Pattern OR_KEYWORD = Pattern.compile("\\bOR\\b", Pattern.CASE_INSENSITIVE);
+
+  List<Where> wheres;
+  Map<String, Object> parameters;
+  private boolean sharedWheres;
+  private boolean sharedParameters;
+
+  public WhereGroup() {
+    this.wheres = new ArrayList<>();
+    this.parameters = new HashMap<>();
+  }
+
+  private WhereGroup(WhereGroup whereGroup) {
+    this.wheres = whereGroup.wheres;
+    this.parameters = whereGroup.parameters;
+    this.sharedWheres = true;
+    this.sharedParameters = true;
+  }
+
+  public WhereGroup copy() {
+    if (!sharedWheres || !sharedParameters) {
+      this.sharedWheres = true;
+      this.sharedParameters = true;
+    }
+    return new WhereGroup(this);
+  }
+
+  private List<Where> exclusiveWheres() {
+    if (sharedWheres) {
+      this.wheres = new ArrayList<>(wheres);
+      this.sharedWheres = false;
+    }
+    return wheres;
+  }
+
+  private Map<String, Object> exclusiveParameters() {
+    if (sharedParameters) {
+      this.parameters = new HashMap<>(parameters);
+      this.sharedParameters = false;
+    }
+    return parameters;
+  }
 
   public void where(Where where) {
     if (wheres.isEmpty()) {
       where.type = QueryOperator.WHERE;
     }
 
-    this.wheres.add(where);
+    this.exclusiveWheres().add(where);
 
     if (Objects.nonNull(where.parameters) && !where.parameters.isEmpty()) {
       List<String> parameterNames = QueryUtils.extractParameterName(where.clause);
       Objects.requireNonNull(parameterNames, "A parameter was entered but no named parameter was found in the clause");
+      Map<String, Object> groupParameters = this.exclusiveParameters();
       IntStream.range(0, where.parameters.size())
-        .forEachOrdered(index -> this.parameters.put(parameterNames.get(index), where.parameters.get(index)));
+        .forEachOrdered(index -> groupParameters.put(parameterNames.get(index), where.parameters.get(index)));
+    }
+  }
+
+  // The parameter names of the clause are already known, so the clause is not scanned for them
+  public void where(Where where, Map<String, Object> parameters) {
+    this.where(where);
+    if (!parameters.isEmpty()) {
+      this.exclusiveParameters().putAll(parameters);
     }
   }
 
   public void openParentheses(QueryOperator operator) {
-    Where parentheses = new Where("(", operator);
-    this.wheres.add(parentheses);
+    Where parentheses = new Where("(", wheres.isEmpty() ? QueryOperator.WHERE : operator);
+    this.exclusiveWheres().add(parentheses);
   }
 
   public void closeParentheses() {
     Where parentheses = new Where(")", QueryOperator.NONE);
-    this.wheres.add(parentheses);
+    this.exclusiveWheres().add(parentheses);
   }
 
   public void addParameter(String name, Object value) {
-    this.parameters.put(name, value);
+    this.exclusiveParameters().put(name, value);
   }
 
   public void addParameters(Map<String, Object> parameters) {
-    this.parameters.putAll(parameters);
+    this.exclusiveParameters().putAll(parameters);
   }
 
+  // Parameters of a subquery share the names of the outer query, so a name bound to another value is rejected
+  public void mergeParameters(Map<String, Object> parameters) {
+    parameters.forEach((name, value) -> {
+      if (this.parameters.containsKey(name) && !Objects.equals(this.parameters.get(name), value)) {
+        String exceptionMessage = "The parameter '%s' is already bound to another value";
+        throw new IllegalArgumentException(String.format(exceptionMessage, name));
+      }
+    });
+    this.addParameters(parameters);
+  }
+
+  // The returned map can be changed by the caller, so a map shared with a copy is detached first
   public Map<String, Object> getParameters() {
-    return parameters;
+    return this.exclusiveParameters();
+  }
+
+  public Map<String, Object> getParameterView() {
+    return Collections.unmodifiableMap(parameters);
+  }
+
+  public void retainParameters(Collection<String> parameterNames) {
+    this.exclusiveParameters().keySet().retainAll(parameterNames);
+  }
+
+  // True when every condition is joined by AND, so widening one of them cannot change what the others match
+  public boolean isConjunction() {
+    for (Where where : wheres) {
+      if (where.type == QueryOperator.OR || OR_KEYWORD.matcher(where.clause).find()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // True when the parameter is only used by a "<path> IN :name" condition outside parentheses and no condition at that
+  // level is joined by OR, so each part of the list narrows the rows of the whole query. "<path> = :name" is accepted
+  // as well because executeBatch rewrites it to IN
+  public boolean isTopLevelInList(String parameterName) {
+    Pattern inListPattern = Pattern.compile(
+      "^\\s*[\\w.$]+(?:\\s*=|\\s+IN)\\s*\\(?\\s*:" + Pattern.quote(parameterName) + "\\s*\\)?\\s*$",
+      Pattern.CASE_INSENSITIVE
+    );
+    boolean inList = false;
+    int depth = 0;
+    for (Where where : wheres) {
+      boolean topLevel = depth == 0;
+      if ("(".equals(where.clause)) {
+        depth++;
+      } else if (")".equals(where.clause)) {
+        depth--;
+      } else if (topLevel && inListPattern.matcher(where.clause).matches()) {
+        inList = true;
+      }
+
+      if (topLevel && (where.type == QueryOperator.OR || OR_KEYWORD.matcher(where.clause).find())) {
+        return false;
+      }
+    }
+    return inList;
+  }
+
+  public WhereGroup withAlias(String alias, String replacement) {
+    WhereGroup renamed = new WhereGroup();
+    for (Where where : wheres) {
+      renamed.wheres.add(new Where(QueryUtils.replaceAlias(where.clause, alias, replacement), where.type));
+    }
+    renamed.parameters.putAll(parameters);
+    return renamed;
+  }
+
+  public boolean isAliasReferenced(String alias) {
+    return wheres.stream().anyMatch(where -> QueryUtils.isAliasReferenced(alias, where.clause));
+  }
+
+  public List<String> getClauses() {
+    List<String> clauses = new ArrayList<>(wheres.size());
+    for (Where where : wheres) {
+      clauses.add(where.clause);
+    }
+    return clauses;
   }
 
   @Override
-  public String getOperation() {
-    return QueryUtils.joinOperations(wheres);
+  public void appendTo(StringBuilder query) {
+    QueryUtils.appendOperations(query, wheres);
+  }
+
+  public String getOperation(QueryOperation restriction) {
+    StringBuilder operation = new StringBuilder();
+    this.appendTo(operation, restriction);
+    return operation.toString();
+  }
+
+  // Renders "WHERE (<conditions>) AND <restriction>", so the restriction also applies to conditions joined by OR
+  public void appendTo(StringBuilder query, QueryOperation restriction) {
+    if (Objects.isNull(restriction)) {
+      this.appendTo(query);
+      return;
+    }
+
+    String whereKeyword = QueryOperator.WHERE.getValue();
+
+    if (wheres.isEmpty()) {
+      query.append(whereKeyword).append(' ');
+    } else {
+      int conditionsStart = query.length() + whereKeyword.length();
+      QueryUtils.appendOperations(query, wheres);
+      query.setLength(query.length() - 1);
+
+      int firstCondition = conditionsStart;
+      while (firstCondition < query.length() && query.charAt(firstCondition) <= ' ') {
+        firstCondition++;
+      }
+
+      query.replace(conditionsStart, firstCondition, " (")
+        .append(") ").append(QueryOperator.AND.getValue()).append(' ');
+    }
+
+    QueryUtils.appendTrimmed(query, restriction);
+    query.append(' ');
+  }
+
+  @Override
+  public void describeShape(QueryShape.Builder shape) {
+    this.wheres.forEach(where -> where.describeShape(shape));
   }
 
   public static class Where implements QueryOperation {
@@ -75,8 +246,17 @@ public class WhereGroup implements QueryOperation {
     }
 
     @Override
-    public String getOperation() {
-      return String.format("%s %s", type.getValue(), clause);
+    public void appendTo(StringBuilder query) {
+      String operator = type.getValue();
+      if (!operator.isEmpty()) {
+        query.append(operator).append(' ');
+      }
+      query.append(clause);
+    }
+
+    @Override
+    public void describeShape(QueryShape.Builder shape) {
+      shape.add(type).add(clause);
     }
 
   }
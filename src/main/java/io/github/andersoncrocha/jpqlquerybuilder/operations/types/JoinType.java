@@ -19,4 +19,21 @@ public enum JoinType {
     return value;
   }
 
+  public boolean isFetch() {
+    return this == INNER_FETCH || this == LEFT_FETCH || this == RIGHT_FETCH;
+  }
+
+  public JoinType withoutFetch() {
+    switch (this) {
+      case INNER_FETCH:
+        return INNER;
+      case LEFT_FETCH:
+        return LEFT;
+      case RIGHT_FETCH:
+        return RIGHT;
+      default:
+        return this;
+    }
+  }
+
 }
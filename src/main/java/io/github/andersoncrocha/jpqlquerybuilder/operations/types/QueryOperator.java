@@ -3,6 +3,8 @@ package io.github.andersoncrocha.jpqlquerybuilder.operations.types;
 public enum QueryOperator {
 
   SELECT ("SELECT"),
+  UPDATE ("UPDATE"),
+  DELETE ("DELETE"),
   ADD_SELECT ("ADD_SELECT"),
   FROM ("FROM"),
   JOIN ("JOIN"),
@@ -0,0 +1,29 @@
+package io.github.andersoncrocha.jpqlquerybuilder.pagination;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class KeysetPage<T> {
+
+  private final List<T> content;
+  private final SeekToken nextToken;
+
+  public KeysetPage(List<T> content, SeekToken nextToken) {
+    this.content = Collections.unmodifiableList(content);
+    this.nextToken = nextToken;
+  }
+
+  public List<T> getContent() {
+    return content;
+  }
+
+  public Optional<SeekToken> getNextToken() {
+    return Optional.ofNullable(nextToken);
+  }
+
+  public boolean hasNext() {
+    return nextToken != null;
+  }
+
+}
@@ -0,0 +1,44 @@
+package io.github.andersoncrocha.jpqlquerybuilder.pagination;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class Page<T> {
+
+  private final List<T> content;
+  private final int pageNumber;
+  private final int pageSize;
+  private final long totalElements;
+
+  public Page(List<T> content, int pageNumber, int pageSize, long totalElements) {
+    this.content = Collections.unmodifiableList(content);
+    this.pageNumber = pageNumber;
+    this.pageSize = pageSize;
+    this.totalElements = totalElements;
+  }
+
+  public List<T> getContent() {
+    return content;
+  }
+
+  public int getPageNumber() {
+    return pageNumber;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public long getTotalElements() {
+    return totalElements;
+  }
+
+  public int getTotalPages() {
+    return (int) ((totalElements + pageSize - 1) / pageSize);
+  }
+
+  public boolean hasNext() {
+    return pageNumber + 1 < this.getTotalPages();
+  }
+
+}
@@ -0,0 +1,57 @@
+package io.github.andersoncrocha.jpqlquerybuilder.pagination;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class SeekToken implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Object[] values;
+
+  private SeekToken(Object[] values) {
+    this.values = values;
+  }
+
+  public static SeekToken of(Object... values) {
+    Objects.requireNonNull(values, "The values of a seek token cannot be null");
+    if (values.length == 0) {
+      throw new IllegalArgumentException("A seek token needs at least one value");
+    }
+    for (Object value : values) {
+      Objects.requireNonNull(value, "The values of a seek token cannot be null");
+    }
+    return new SeekToken(values.clone());
+  }
+
+  public Object[] getValues() {
+    return values.clone();
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SeekToken)) {
+      return false;
+    }
+    return Arrays.equals(values, ((SeekToken) other).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "SeekToken" + Arrays.toString(values);
+  }
+
+}
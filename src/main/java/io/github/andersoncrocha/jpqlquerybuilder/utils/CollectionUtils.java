@@ -0,0 +1,41 @@
+package io.github.andersoncrocha.jpqlquerybuilder.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class CollectionUtils {
+
+  private CollectionUtils() {
+    throw new UnsupportedOperationException("Utility class.");
+  }
+
+  // Repeats the last element until the next power of two (or the maximum size), so IN lists of 5, 6, 7 and 8
+  // elements all expand to the same statement
+  public static List<Object> padToPowerOfTwo(Collection<?> values, int maximumSize) {
+    List<Object> paddedValues = new ArrayList<>(values);
+    if (paddedValues.isEmpty()) {
+      return paddedValues;
+    }
+
+    int targetSize = Math.min(nextPowerOfTwo(paddedValues.size()), Math.max(maximumSize, paddedValues.size()));
+    Object lastValue = paddedValues.get(paddedValues.size() - 1);
+    paddedValues.addAll(Collections.nCopies(targetSize - paddedValues.size(), lastValue));
+    return paddedValues;
+  }
+
+  public static <T> List<List<T>> partition(List<T> values, int partitionSize) {
+    List<List<T>> partitions = new ArrayList<>((values.size() + partitionSize - 1) / partitionSize);
+    for (int start = 0; start < values.size(); start += partitionSize) {
+      partitions.add(values.subList(start, Math.min(start + partitionSize, values.size())));
+    }
+    return partitions;
+  }
+
+  private static int nextPowerOfTwo(int size) {
+    int highestOneBit = Integer.highestOneBit(size);
+    return highestOneBit == size || highestOneBit == 1 << 30 ? size : highestOneBit << 1;
+  }
+
+}
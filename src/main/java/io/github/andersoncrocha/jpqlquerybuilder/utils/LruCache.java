@@ -0,0 +1,140 @@
+package io.github.andersoncrocha.jpqlquerybuilder.utils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class LruCache<K, V> {
+
+  private final int maximumSize;
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public LruCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("The maximum size of the cache must be greater than zero");
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  public V get(K key) {
+    Entry<V> entry = this.entries.get(key);
+    if (Objects.isNull(entry)) {
+      this.misses.increment();
+      return null;
+    }
+
+    this.hits.increment();
+    return entry.read();
+  }
+
+  // No lock is held while loading. Concurrent misses on a key may both load it and the first stored value wins.
+  // computeIfAbsent would lock the bin of the key during the load, and a loader that reads the same cache, as a
+  // statement rendering its id subquery through the shape cache does, would update the map recursively
+  public V get(K key, Function<? super K, ? extends V> loader) {
+    Entry<V> entry = this.entries.get(key);
+    if (Objects.nonNull(entry)) {
+      this.hits.increment();
+      return entry.read();
+    }
+
+    this.misses.increment();
+    V value = loader.apply(key);
+    if (Objects.isNull(value)) {
+      return null;
+    }
+
+    Entry<V> storedEntry = this.entries.putIfAbsent(key, new Entry<>(value));
+    if (Objects.nonNull(storedEntry)) {
+      return storedEntry.read();
+    }
+    this.evictIfFull();
+    return value;
+  }
+
+  public void put(K key, V value) {
+    this.entries.put(key, new Entry<>(value));
+    this.evictIfFull();
+  }
+
+  public V remove(K key) {
+    Entry<V> entry = this.entries.remove(key);
+    return Objects.isNull(entry) ? null : entry.value;
+  }
+
+  public void clear() {
+    this.entries.clear();
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  // One thread evicts at a time and the others carry on, so the size can exceed the maximum until that thread is done
+  private void evictIfFull() {
+    if (this.entries.size() <= maximumSize || !this.evicting.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      while (this.entries.size() > maximumSize) {
+        Map.Entry<K, Entry<V>> leastRecentlyUsed = null;
+        for (Map.Entry<K, Entry<V>> candidate : this.entries.entrySet()) {
+          if (Objects.isNull(leastRecentlyUsed)
+            || candidate.getValue().lastAccess - leastRecentlyUsed.getValue().lastAccess < 0) {
+            leastRecentlyUsed = candidate;
+          }
+        }
+
+        if (Objects.isNull(leastRecentlyUsed)) {
+          return;
+        }
+        if (this.entries.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue())) {
+          this.evictions.increment();
+        }
+      }
+    } finally {
+      this.evicting.set(false);
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private volatile long lastAccess = System.nanoTime();
+
+    private Entry(V value) {
+      this.value = value;
+    }
+
+    private V read() {
+      this.lastAccess = System.nanoTime();
+      return value;
+    }
+
+  }
+
+}
@@ -2,40 +2,214 @@ package io.github.andersoncrocha.jpqlquerybuilder.utils;
 
 import io.github.andersoncrocha.jpqlquerybuilder.operations.QueryOperation;
 
+import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class QueryUtils {
 
-  private static final Pattern PARAMETER_NAME_PATTERN = Pattern.compile(":(?<parameterName>[A-Za-z0-9]*)");
+  private static final String POSITIONAL_PARAMETER_PREFIX = "?";
 
   private QueryUtils() {
     throw new UnsupportedOperationException("Utility class.");
   }
 
+  // Single pass over the clause: skips quoted literals and identifiers, PostgreSQL casts (::type) and returns named
+  // parameters as "name" and positional parameters as "?1", in order of first appearance
   public static List<String> extractParameterName(String clause) {
-    Matcher matcher = PARAMETER_NAME_PATTERN.matcher(clause);
     List<String> parameters = new ArrayList<>();
+    int length = clause.length();
+    int index = 0;
 
-    while (matcher.find()) {
-      String parameterName = matcher.group("parameterName");
-      if (!parameters.contains(parameterName)) {
-        parameters.add(parameterName);
+    while (index < length) {
+      char current = clause.charAt(index);
+
+      if (current == '\'' || current == '"') {
+        index = skipQuoted(clause, index, current);
+      } else if (current == ':' && index + 1 < length && clause.charAt(index + 1) == ':') {
+        index += 2;
+      } else if (current == ':' && index + 1 < length && Character.isJavaIdentifierStart(clause.charAt(index + 1))) {
+        int end = index + 2;
+        while (end < length && Character.isJavaIdentifierPart(clause.charAt(end))) {
+          end++;
+        }
+        addIfAbsent(parameters, clause.substring(index + 1, end));
+        index = end;
+      } else if (current == '?' && index + 1 < length && Character.isDigit(clause.charAt(index + 1))) {
+        int end = index + 2;
+        while (end < length && Character.isDigit(clause.charAt(end))) {
+          end++;
+        }
+        addIfAbsent(parameters, clause.substring(index, end));
+        index = end;
+      } else {
+        index++;
       }
     }
 
     return parameters;
   }
 
-  public static String joinOperations(List<QueryOperation> operations) {
-    return operations.stream()
-      .map(QueryOperation::getOperation)
-      .map(String::trim)
-      .collect(Collectors.joining(" "))
-      .concat(" ");
+  private static int skipQuoted(String clause, int openingQuoteIndex, char quote) {
+    int index = openingQuoteIndex + 1;
+    while (index < clause.length()) {
+      if (clause.charAt(index) == quote) {
+        boolean escapedQuote = index + 1 < clause.length() && clause.charAt(index + 1) == quote;
+        if (!escapedQuote) {
+          return index + 1;
+        }
+        index++;
+      }
+      index++;
+    }
+    return index;
+  }
+
+  private static void addIfAbsent(List<String> parameters, String parameterName) {
+    if (!parameters.contains(parameterName)) {
+      parameters.add(parameterName);
+    }
+  }
+
+  public static boolean isPositionalParameter(String parameterName) {
+    return parameterName.startsWith(POSITIONAL_PARAMETER_PREFIX);
+  }
+
+  public static void setParameters(Query query, Map<String, Object> parameters, int inListPaddingLimit) {
+    parameters.forEach((name, value) -> {
+      Object boundValue = inListPaddingLimit > 0 && value instanceof Collection
+        ? CollectionUtils.padToPowerOfTwo((Collection<?>) value, inListPaddingLimit)
+        : value;
+
+      if (isPositionalParameter(name)) {
+        query.setParameter(Integer.parseInt(name.substring(POSITIONAL_PARAMETER_PREFIX.length())), boundValue);
+      } else {
+        query.setParameter(name, boundValue);
+      }
+    });
+  }
+
+  public static boolean isAliasReferenced(String alias, String text) {
+    Pattern aliasPattern = Pattern.compile("(?<![\\w.$])" + Pattern.quote(alias) + "(?![\\w$])");
+    return aliasPattern.matcher(text).find();
+  }
+
+  // Replaces the alias wherever isAliasReferenced would find it, except inside quoted literals and identifiers and in
+  // parameter names
+  public static String replaceAlias(String text, String alias, String replacement) {
+    StringBuilder replaced = new StringBuilder(text.length());
+    int length = text.length();
+    int index = 0;
+
+    while (index < length) {
+      char current = text.charAt(index);
+
+      if (current == '\'' || current == '"') {
+        int end = skipQuoted(text, index, current);
+        replaced.append(text, index, end);
+        index = end;
+      } else if (text.startsWith(alias, index) && isAliasBoundary(text, index, index + alias.length())) {
+        replaced.append(replacement);
+        index += alias.length();
+      } else {
+        replaced.append(current);
+        index++;
+      }
+    }
+
+    return replaced.toString();
+  }
+
+  private static boolean isAliasBoundary(String text, int start, int end) {
+    if (start > 0) {
+      char previous = text.charAt(start - 1);
+      if (Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '.'
+        || previous == ':' || previous == '?') {
+        return false;
+      }
+    }
+    if (end < text.length()) {
+      char next = text.charAt(end);
+      return !Character.isLetterOrDigit(next) && next != '_' && next != '$';
+    }
+    return true;
+  }
+
+  // Turns the only occurrence of "= :name" into "IN (:name)", or returns null when the parameter is used elsewhere
+  public static String rewriteEqualityAsIn(String queryString, String parameterName) {
+    if (!isUsedOnce(queryString, parameterName)) {
+      return null;
+    }
+
+    String quotedName = Pattern.quote(parameterName);
+    Pattern equalityPattern = Pattern.compile("(?<![<>!=])=\\s*:" + quotedName + "(?![\\w$])");
+    Matcher equality = equalityPattern.matcher(queryString);
+    if (!equality.find()) {
+      return null;
+    }
+
+    return queryString.substring(0, equality.start()) + "IN (:" + parameterName + ")"
+      + queryString.substring(equality.end());
+  }
+
+  // True when the only occurrence of the parameter is "IN :name" or "IN (:name)", not preceded by NOT
+  public static boolean isSolePositiveInList(String queryString, String parameterName) {
+    if (!isUsedOnce(queryString, parameterName)) {
+      return false;
+    }
+
+    Pattern inListPattern = Pattern.compile(
+      "(\\bNOT\\s+)?\\bIN\\s*\\(?\\s*:" + Pattern.quote(parameterName) + "(?![\\w$])", Pattern.CASE_INSENSITIVE
+    );
+    Matcher inList = inListPattern.matcher(queryString);
+    return inList.find() && Objects.isNull(inList.group(1));
+  }
+
+  private static boolean isUsedOnce(String queryString, String parameterName) {
+    Pattern occurrencePattern = Pattern.compile(":" + Pattern.quote(parameterName) + "(?![\\w$])");
+    Matcher occurrences = occurrencePattern.matcher(queryString);
+    return occurrences.find() && !occurrences.find();
+  }
+
+  public static String joinOperations(List<? extends QueryOperation> operations) {
+    StringBuilder joinedOperations = new StringBuilder();
+    appendOperations(joinedOperations, operations);
+    return joinedOperations.toString();
+  }
+
+  public static void appendOperations(StringBuilder query, List<? extends QueryOperation> operations) {
+    for (int index = 0; index < operations.size(); index++) {
+      if (index > 0) {
+        query.append(' ');
+      }
+      appendTrimmed(query, operations.get(index));
+    }
+    query.append(' ');
+  }
+
+  // Same result as appending operation.getOperation().trim(), without the intermediate strings
+  public static void appendTrimmed(StringBuilder query, QueryOperation operation) {
+    int start = query.length();
+    operation.appendTo(query);
+
+    int end = query.length();
+    while (end > start && query.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    query.setLength(end);
+
+    int firstContent = start;
+    while (firstContent < end && query.charAt(firstContent) <= ' ') {
+      firstContent++;
+    }
+    if (firstContent > start) {
+      query.delete(start, firstContent);
+    }
   }
 
 }